@@ -0,0 +1,475 @@
+package byx.container;
+
+import byx.container.component.Component;
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+import byx.container.jfr.ComponentLookupEvent;
+import byx.container.profiler.StartupProfiler;
+import byx.container.util.ReflectUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * IOC容器实现类
+ */
+public class ByxContainer implements Container
+{
+    private final ByxContainer parent;
+    private final Set<ByxContainer> children = Collections.newSetFromMap(new WeakHashMap<>());
+    private final KeyTable keys;
+    private volatile SlotTable slots;
+    private volatile Component[] inherited = new Component[16];
+    private volatile Map<Class<?>, Candidates> candidateCache = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, Map<String, Component>> resolutionCache = new ConcurrentHashMap<>();
+    private volatile StartupProfiler profiler;
+
+    public ByxContainer()
+    {
+        this(null);
+    }
+
+    /**
+     * 创建子容器
+     * 子容器中未注册的组件从父容器获取，获取到的父容器组件缓存在子容器的槽位中
+     * @param parent 父容器
+     */
+    public ByxContainer(ByxContainer parent)
+    {
+        this(parent, new KeyTable(), SlotTable.EMPTY);
+    }
+
+    private ByxContainer(ByxContainer parent, KeyTable keys, SlotTable slots)
+    {
+        this.parent = parent;
+        this.keys = keys;
+        this.slots = slots;
+        if (parent != null)
+        {
+            synchronized (parent.children)
+            {
+                parent.children.add(this);
+            }
+        }
+    }
+
+    @Override
+    public void addComponent(String id, Component component)
+    {
+        if (component == null)
+            throw new ByxContainerException(Message.parameterNotNull("component"));
+        ComponentKey key = getKey(id);
+        StartupProfiler p = profiler;
+        if (p != null) component = p.wrap(id, component);
+        synchronized (this)
+        {
+            slots = slots.with(key.getIndex(), component);
+        }
+        invalidate();
+    }
+
+    /**
+     * 设置启动性能分析器，之后注册的组件第一次创建对象时会记录耗时
+     * @param profiler 性能分析器，为null时不记录
+     */
+    public void setProfiler(StartupProfiler profiler)
+    {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Container fork()
+    {
+        return new ByxContainer(parent, keys, slots);
+    }
+
+    @Override
+    public Container createChild()
+    {
+        return new ByxContainer(this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getObject(String id)
+    {
+        ComponentLookupEvent event = new ComponentLookupEvent();
+        event.begin();
+        try
+        {
+            return (T) getComponent(getExistingKey(id)).create();
+        }
+        finally
+        {
+            event.end(id, "id");
+        }
+    }
+
+    @Override
+    public ComponentKey getKey(String id)
+    {
+        return keys.getKey(id);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getObject(ComponentKey key)
+    {
+        ComponentLookupEvent event = new ComponentLookupEvent();
+        event.begin();
+        try
+        {
+            return (T) getComponent(key).create();
+        }
+        finally
+        {
+            event.end(key.getId(), "key");
+        }
+    }
+
+    @Override
+    public <T> T getObject(Class<T> type)
+    {
+        return getObject(type, null);
+    }
+
+    @Override
+    public <T> T getObject(Class<T> type, String qualifier)
+    {
+        ComponentLookupEvent event = new ComponentLookupEvent();
+        event.begin();
+        try
+        {
+            return type.cast(resolve(type, qualifier).create());
+        }
+        finally
+        {
+            event.end(type.getName(), "type");
+        }
+    }
+
+    @Override
+    public <T> List<T> getAll(Class<T> type)
+    {
+        Component[] candidates = getCandidates(type);
+        List<T> res = new ArrayList<>(candidates.length);
+        for (Component c : candidates)
+        {
+            res.add(type.cast(c.create()));
+        }
+        return res;
+    }
+
+    @Override
+    public Object[] getObjects(String... ids)
+    {
+        Component[] components = new Component[ids.length];
+        for (int i = 0; i < ids.length; ++i)
+        {
+            components[i] = getComponent(getExistingKey(ids[i]));
+        }
+        return Component.createAll(components);
+    }
+
+    @Override
+    public Object[] getObjects(Class<?>... types)
+    {
+        Component[] components = new Component[types.length];
+        for (int i = 0; i < types.length; ++i)
+        {
+            components[i] = resolve(types[i], null);
+        }
+        return Component.createAll(components);
+    }
+
+    @Override
+    public ComponentBinding bind(String... ids)
+    {
+        ComponentKey[] bindingKeys = new ComponentKey[ids.length];
+        for (int i = 0; i < ids.length; ++i)
+        {
+            bindingKeys[i] = getExistingKey(ids[i]);
+            getComponent(bindingKeys[i]);
+        }
+        return new ComponentBinding(this, bindingKeys);
+    }
+
+    @Override
+    public void releaseObject(String id, Object obj)
+    {
+        getComponent(getExistingKey(id)).release(obj);
+    }
+
+    @Override
+    public Class<?> getType(String id)
+    {
+        return getType(getExistingKey(id));
+    }
+
+    @Override
+    public Class<?> getType(ComponentKey key)
+    {
+        return getComponent(key).getType();
+    }
+
+    /**
+     * 按组件键创建对象，供已校验过组件键的调用方使用
+     */
+    Object create(ComponentKey key)
+    {
+        Component c = lookup(key);
+        if (c == null)
+            throw new ByxContainerException(Message.componentNotFoundWithId(key.getId()));
+        return c.create();
+    }
+
+    /**
+     * 获取与指定类型和限定符匹配的唯一组件
+     * 结果按(类型, 限定符)缓存，注册新组件时缓存失效
+     */
+    private Component resolve(Class<?> type, String qualifier)
+    {
+        Map<String, Component> cache = resolutionCache.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+        String cacheKey = qualifier == null ? "" : qualifier;
+        Component c = cache.get(cacheKey);
+        if (c == null)
+        {
+            c = selectCandidate(type, qualifier);
+            cache.put(cacheKey, c);
+        }
+        return c;
+    }
+
+    /**
+     * 在候选组件中按限定符过滤，再依次按首选标记和优先级选出唯一的组件
+     */
+    private Component selectCandidate(Class<?> type, String qualifier)
+    {
+        Component best = null;
+        boolean tie = false;
+        for (Component c : getCandidates(type))
+        {
+            if (qualifier != null && !c.getQualifiers().contains(qualifier)) continue;
+            int cmp = best == null ? 1 : compareRank(c, best);
+            if (cmp > 0)
+            {
+                best = c;
+                tie = false;
+            }
+            else if (cmp == 0)
+            {
+                tie = true;
+            }
+        }
+
+        if (best == null)
+        {
+            if (qualifier == null)
+                throw new ByxContainerException(Message.componentNotFoundWithType(type));
+            throw new ByxContainerException(Message.componentNotFoundWithQualifier(type, qualifier));
+        }
+        if (tie)
+            throw new ByxContainerException(Message.multiComponentsWithType(type));
+        return best;
+    }
+
+    /**
+     * 比较两个组件的排名：首选组件优先，其次优先级高的优先
+     */
+    private static int compareRank(Component c1, Component c2)
+    {
+        if (c1.isPrimary() != c2.isPrimary())
+            return c1.isPrimary() ? 1 : -1;
+        return Integer.compare(c1.getPriority(), c2.getPriority());
+    }
+
+    /**
+     * 获取与指定类型匹配的所有组件，按槽位顺序排列
+     * 子容器中先排列父容器的组件（被覆盖的组件替换为子容器的组件），再排列子容器新增的组件
+     * 结果按类型缓存，注册新组件时缓存失效
+     */
+    private Component[] getCandidates(Class<?> type)
+    {
+        return getCandidateEntries(type).components;
+    }
+
+    /**
+     * 获取与指定类型匹配的所有组件及其id，子容器在父容器的缓存结果上合并自身的组件
+     */
+    private Candidates getCandidateEntries(Class<?> type)
+    {
+        Map<Class<?>, Candidates> cache = candidateCache;
+        Candidates candidates = cache.get(type);
+        if (candidates == null)
+        {
+            Map<String, Component> entries = parent == null
+                    ? new LinkedHashMap<>()
+                    : new LinkedHashMap<>(parent.getCandidateEntries(type).entries);
+            SlotTable s = slots;
+            ComponentKey[] k = keys.byIndex;
+            for (int i = 0; i < k.length && k[i] != null; ++i)
+            {
+                Component c = s.get(i);
+                if (c == null) continue;
+                if (matchType(type, c)) entries.put(k[i].getId(), c);
+                else entries.remove(k[i].getId());
+            }
+            candidates = new Candidates(entries);
+            cache.put(type, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * 判断组件的类型是否与指定类型匹配
+     */
+    private static boolean matchType(Class<?> type, Component c)
+    {
+        if (c == null) return false;
+        Class<?> componentType = c.getType();
+        return componentType != null && ReflectUtils.isAssignable(type, componentType);
+    }
+
+    /**
+     * 获取已分配的组件键，id不存在时抛出异常
+     */
+    private ComponentKey getExistingKey(String id)
+    {
+        ComponentKey key = keys.keys.get(id);
+        if (key != null) return key;
+        for (ByxContainer c = parent; c != null; c = c.parent)
+        {
+            if (c.keys.keys.containsKey(id)) return getKey(id);
+        }
+        throw new ByxContainerException(Message.componentNotFoundWithId(id));
+    }
+
+    /**
+     * 按槽位下标获取组件，组件未注册时抛出异常
+     */
+    private Component getComponent(ComponentKey key)
+    {
+        if (!key.belongsTo(keys))
+            throw new ByxContainerException(Message.foreignComponentKey(key.getId()));
+        Component c = lookup(key);
+        if (c == null)
+            throw new ByxContainerException(Message.componentNotFoundWithId(key.getId()));
+        return c;
+    }
+
+    /**
+     * 按槽位下标查找组件，当前容器未注册时从父容器查找并缓存，找不到返回null
+     */
+    private Component lookup(ComponentKey key)
+    {
+        int index = key.getIndex();
+        Component c = slots.get(index);
+        if (c != null || parent == null) return c;
+
+        Component[] in = inherited;
+        c = index < in.length ? in[index] : null;
+        if (c != null) return c;
+
+        c = parent.lookup(key.getId());
+        if (c != null)
+        {
+            synchronized (this)
+            {
+                // 等待期间父容器可能已经使缓存失效，此时不再写入
+                if (in == inherited)
+                {
+                    if (index >= in.length)
+                    {
+                        in = Arrays.copyOf(in, Math.max(in.length * 2, index + 1));
+                        inherited = in;
+                    }
+                    in[index] = c;
+                }
+            }
+        }
+        return c;
+    }
+
+    /**
+     * 按id查找组件，找不到返回null
+     */
+    private Component lookup(String id)
+    {
+        ComponentKey key = keys.keys.get(id);
+        if (key != null) return lookup(key);
+        return parent == null ? null : parent.lookup(id);
+    }
+
+    /**
+     * 注册新组件后清空当前容器和所有子容器的缓存
+     */
+    private void invalidate()
+    {
+        synchronized (this)
+        {
+            inherited = new Component[inherited.length];
+            candidateCache = new ConcurrentHashMap<>();
+            resolutionCache = new ConcurrentHashMap<>();
+        }
+        List<ByxContainer> cs;
+        synchronized (children)
+        {
+            cs = new ArrayList<>(children);
+        }
+        for (ByxContainer c : cs)
+        {
+            c.invalidate();
+        }
+    }
+
+    /**
+     * 与某个类型匹配的组件，按槽位顺序排列
+     */
+    private static final class Candidates
+    {
+        private final Map<String, Component> entries;
+        private final Component[] components;
+
+        private Candidates(Map<String, Component> entries)
+        {
+            this.entries = entries;
+            this.components = entries.values().toArray(new Component[0]);
+        }
+    }
+
+    /**
+     * 组件id到组件键的映射，在fork出的容器之间共享，因此组件键在这些容器中通用
+     */
+    private static final class KeyTable
+    {
+        private final Map<String, ComponentKey> keys = new ConcurrentHashMap<>();
+        private volatile ComponentKey[] byIndex = new ComponentKey[16];
+        private int size;
+
+        private ComponentKey getKey(String id)
+        {
+            ComponentKey key = keys.get(id);
+            if (key != null) return key;
+            synchronized (this)
+            {
+                return keys.computeIfAbsent(id, k ->
+                {
+                    ComponentKey[] b = byIndex;
+                    int index = size++;
+                    if (index == b.length) b = Arrays.copyOf(b, b.length * 2);
+                    ComponentKey newKey = new ComponentKey(this, k, index);
+                    b[index] = newKey;
+                    byIndex = b;
+                    return newKey;
+                });
+            }
+        }
+    }
+}
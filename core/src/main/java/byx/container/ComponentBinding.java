@@ -0,0 +1,49 @@
+package byx.container;
+
+/**
+ * 组件绑定：预先解析好的一组组件键。
+ * 绑定在创建时完成所有id的校验，之后每次获取对象都只按槽位下标访问组件。
+ */
+public final class ComponentBinding
+{
+    private final ByxContainer container;
+    private final ComponentKey[] keys;
+
+    ComponentBinding(ByxContainer container, ComponentKey[] keys)
+    {
+        this.container = container;
+        this.keys = keys;
+    }
+
+    /**
+     * 获取绑定的组件数量
+     * @return 组件数量
+     */
+    public int size()
+    {
+        return keys.length;
+    }
+
+    /**
+     * 获取绑定的所有对象
+     * @return 按绑定顺序排列的对象数组
+     */
+    public Object[] get()
+    {
+        return get(new Object[keys.length]);
+    }
+
+    /**
+     * 获取绑定的所有对象，并写入指定数组
+     * @param result 用于存放结果的数组，长度不能小于绑定的组件数量
+     * @return result
+     */
+    public Object[] get(Object[] result)
+    {
+        for (int i = 0; i < keys.length; ++i)
+        {
+            result[i] = container.create(keys[i]);
+        }
+        return result;
+    }
+}
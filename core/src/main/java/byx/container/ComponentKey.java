@@ -0,0 +1,52 @@
+package byx.container;
+
+/**
+ * 组件键：容器为组件id分配的稳定句柄。
+ * 通过组件键获取对象时，容器直接按槽位下标访问组件，不再对id进行哈希查找。
+ * 组件键只在分配它的容器以及由该容器fork出的容器中有效。
+ */
+public final class ComponentKey
+{
+    private final Object owner;
+    private final String id;
+    private final int index;
+
+    ComponentKey(Object owner, String id, int index)
+    {
+        this.owner = owner;
+        this.id = id;
+        this.index = index;
+    }
+
+    /**
+     * 获取组件id
+     * @return 组件id
+     */
+    public String getId()
+    {
+        return id;
+    }
+
+    /**
+     * 获取槽位下标
+     * @return 组件在容器中的槽位下标
+     */
+    public int getIndex()
+    {
+        return index;
+    }
+
+    /**
+     * 判断组件键是否由指定容器分配
+     */
+    boolean belongsTo(Object owner)
+    {
+        return this.owner == owner;
+    }
+
+    @Override
+    public String toString()
+    {
+        return id + "#" + index;
+    }
+}
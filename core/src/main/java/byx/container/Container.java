@@ -0,0 +1,128 @@
+package byx.container;
+
+import byx.container.component.Component;
+
+import java.util.List;
+
+/**
+ * IOC容器：管理着系统中所有的组件以及它们之间的依赖关系。
+ * 应用程序初始化时，应该先定义好组件之间的依赖关系，然后将所有组件添加到IOC容器。
+ * 当应用程序需要某个组件时，可以直接向容器获取。
+ */
+public interface Container
+{
+    /**
+     * 将组件添加到容器
+     * @param id 唯一标识这个组件的key
+     * @param component 组件
+     */
+    void addComponent(String id, Component component);
+
+    /**
+     * 根据id获取对象
+     * @param id 组件id
+     * @param <T> 返回值类型
+     * @return 指定id的组件创建的对象
+     */
+    <T> T getObject(String id);
+
+    /**
+     * 获取组件键
+     * 组件键与id一一对应，可以在组件注册之前获取，之后通过组件键获取对象无需哈希查找
+     * @param id 组件id
+     * @return 指定id的组件键
+     */
+    ComponentKey getKey(String id);
+
+    /**
+     * 根据组件键获取对象
+     * @param key 组件键
+     * @param <T> 返回值类型
+     * @return 指定组件键对应的组件创建的对象
+     */
+    <T> T getObject(ComponentKey key);
+
+    /**
+     * 根据类型获取对象
+     * @param type 对象类型
+     * @param <T> 对象类型
+     * @return 指定类型的对象
+     */
+    <T> T getObject(Class<T> type);
+
+    /**
+     * 根据类型和限定符获取对象
+     * 存在多个候选组件时，依次按首选标记和优先级选出唯一的组件
+     * @param type 对象类型
+     * @param qualifier 限定符，为null时不按限定符过滤
+     * @param <T> 对象类型
+     * @return 指定类型和限定符的对象
+     */
+    <T> T getObject(Class<T> type, String qualifier);
+
+    /**
+     * 获取指定类型的所有对象
+     * @param type 对象类型
+     * @param <T> 对象类型
+     * @return 所有与type匹配的组件创建的对象，按组件键的分配顺序排列
+     */
+    <T> List<T> getAll(Class<T> type);
+
+    /**
+     * 批量获取对象
+     * 所有id都校验通过后才开始创建对象
+     * @param ids 组件id列表
+     * @return 按id顺序排列的对象数组
+     */
+    Object[] getObjects(String... ids);
+
+    /**
+     * 根据类型批量获取对象
+     * 所有类型都只扫描一遍容器，全部匹配成功后才开始创建对象
+     * @param types 类型列表
+     * @return 按类型顺序排列的对象数组
+     */
+    Object[] getObjects(Class<?>... types);
+
+    /**
+     * 为一组固定的id创建绑定
+     * @param ids 组件id列表
+     * @return 组件绑定
+     */
+    ComponentBinding bind(String... ids);
+
+    /**
+     * 将对象归还给创建它的组件，池化组件会将对象放回对象池
+     * @param id 组件id
+     * @param obj 从该组件获取的对象
+     */
+    void releaseObject(String id, Object obj);
+
+    /**
+     * 获取组件类型
+     * @param id 组件id
+     * @return 指定id的组件的类型
+     */
+    Class<?> getType(String id);
+
+    /**
+     * 根据组件键获取组件类型
+     * @param key 组件键
+     * @return 指定组件键对应的组件的类型
+     */
+    Class<?> getType(ComponentKey key);
+
+    /**
+     * 创建子容器
+     * 子容器可以注册同id的组件覆盖当前容器中的组件，其余组件从当前容器获取
+     * @return 子容器
+     */
+    Container createChild();
+
+    /**
+     * 复制容器
+     * 新容器与当前容器共享已注册的组件，之后两个容器各自注册的组件互不影响
+     * @return 新容器
+     */
+    Container fork();
+}
@@ -0,0 +1,72 @@
+package byx.container;
+
+import byx.container.component.Component;
+
+/**
+ * 不可变的组件槽位表：以槽位下标为键的32叉字典树。
+ * 修改时只复制从根到目标槽位的路径，其余节点在新旧两张表之间共享。
+ */
+final class SlotTable
+{
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    static final SlotTable EMPTY = new SlotTable(new Object[WIDTH], 0);
+
+    private final Object[] root;
+    private final int shift;
+
+    private SlotTable(Object[] root, int shift)
+    {
+        this.root = root;
+        this.shift = shift;
+    }
+
+    /**
+     * 获取指定槽位的组件，槽位为空时返回null
+     */
+    Component get(int index)
+    {
+        if ((index >>> shift) >= WIDTH) return null;
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS)
+        {
+            node = (Object[]) node[(index >>> level) & MASK];
+            if (node == null) return null;
+        }
+        return (Component) node[index & MASK];
+    }
+
+    /**
+     * 返回设置了指定槽位的新表，当前表不变
+     */
+    SlotTable with(int index, Component component)
+    {
+        Object[] r = root;
+        int s = shift;
+        while ((index >>> s) >= WIDTH)
+        {
+            Object[] node = new Object[WIDTH];
+            node[0] = r;
+            r = node;
+            s += BITS;
+        }
+        return new SlotTable(set(r, s, index, component), s);
+    }
+
+    private static Object[] set(Object[] node, int level, int index, Component component)
+    {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        if (level == 0)
+        {
+            copy[index & MASK] = component;
+        }
+        else
+        {
+            int i = (index >>> level) & MASK;
+            copy[i] = set((Object[]) copy[i], level - BITS, index, component);
+        }
+        return copy;
+    }
+}
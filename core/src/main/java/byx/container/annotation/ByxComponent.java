@@ -0,0 +1,39 @@
+package byx.container.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 声明组件：使用构造函数创建对象，编译时写入组件索引
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ByxComponent
+{
+    /**
+     * 组件id，为空时使用首字母小写的类名
+     */
+    String id() default "";
+
+    /**
+     * 限定符
+     */
+    String[] qualifiers() default {};
+
+    /**
+     * 是否为首选组件
+     */
+    boolean primary() default false;
+
+    /**
+     * 优先级
+     */
+    int priority() default 0;
+
+    /**
+     * 是否为单例
+     */
+    boolean singleton() default true;
+}
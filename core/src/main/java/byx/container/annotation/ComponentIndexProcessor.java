@@ -0,0 +1,151 @@
+package byx.container.annotation;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 编译时生成组件索引：记录所有标注了ByxComponent或含有Factory方法的类，
+ * 运行时由ComponentScanner读取索引，无需扫描类路径。
+ * 增量编译只处理部分源文件，因此保留已有索引中仍然存在且仍被标注的类
+ */
+@SupportedAnnotationTypes({"byx.container.annotation.ByxComponent", "byx.container.annotation.Factory"})
+public class ComponentIndexProcessor extends AbstractProcessor
+{
+    private final Set<String> types = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        if (roundEnv.processingOver())
+        {
+            writeIndex();
+            return false;
+        }
+
+        for (Element e : roundEnv.getElementsAnnotatedWith(ByxComponent.class))
+        {
+            if (e.getKind() != ElementKind.CLASS || e.getModifiers().contains(Modifier.ABSTRACT))
+            {
+                error(e, "@ByxComponent can only be applied to concrete classes.");
+                continue;
+            }
+            types.add(binaryName(e));
+        }
+
+        for (Element e : roundEnv.getElementsAnnotatedWith(Factory.class))
+        {
+            if (!e.getModifiers().contains(Modifier.PUBLIC) || !e.getModifiers().contains(Modifier.STATIC))
+            {
+                error(e, "@Factory can only be applied to public static methods.");
+                continue;
+            }
+            types.add(binaryName(e.getEnclosingElement()));
+        }
+
+        return false;
+    }
+
+    private String binaryName(Element type)
+    {
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) type).toString();
+    }
+
+    private void error(Element e, String message)
+    {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, e);
+    }
+
+    private void writeIndex()
+    {
+        Set<String> existing = readIndex();
+        for (String type : existing)
+        {
+            if (isIndexed(type)) types.add(type);
+        }
+        if (types.isEmpty() && existing.isEmpty())
+        {
+            return;
+        }
+
+        try
+        {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", ComponentScanner.INDEX_LOCATION);
+            try (Writer writer = file.openWriter())
+            {
+                for (String type : types)
+                {
+                    writer.write(type);
+                    writer.write('\n');
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write component index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 读取上次编译生成的索引，不存在时返回空集合
+     */
+    private Set<String> readIndex()
+    {
+        Set<String> res = new TreeSet<>();
+        try
+        {
+            FileObject file = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", ComponentScanner.INDEX_LOCATION);
+            try (BufferedReader reader = new BufferedReader(file.openReader(true)))
+            {
+                String line;
+                while ((line = reader.readLine()) != null)
+                {
+                    line = line.trim();
+                    if (!line.isEmpty()) res.add(line);
+                }
+            }
+        }
+        catch (IOException | IllegalArgumentException e)
+        {
+            // 第一次编译或输出目录已被清理
+        }
+        return res;
+    }
+
+    /**
+     * 判断已有索引中的类是否仍然存在并且仍被标注
+     */
+    private boolean isIndexed(String binaryName)
+    {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.'));
+        if (type == null || !binaryName(type).equals(binaryName)) return false;
+        if (type.getAnnotation(ByxComponent.class) != null) return true;
+        for (Element e : type.getEnclosedElements())
+        {
+            if (e.getKind() == ElementKind.METHOD && e.getAnnotation(Factory.class) != null) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package byx.container.annotation;
+
+import byx.container.Container;
+
+import java.util.Set;
+
+/**
+ * 组件注册表：由编译时代码生成工具生成，不通过反射创建组件。
+ * ComponentScanner通过ServiceLoader加载注册表，注册表已覆盖的类不再通过反射注册
+ */
+public interface ComponentRegistry
+{
+    /**
+     * 获取注册表覆盖的类
+     * @return 类的二进制名称
+     */
+    Set<String> getTypes();
+
+    /**
+     * 将组件注册到容器
+     * @param container 容器
+     */
+    void register(Container container);
+}
@@ -0,0 +1,287 @@
+package byx.container.annotation;
+
+import byx.container.Container;
+import byx.container.component.Component;
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+import byx.container.util.ReflectUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import static byx.container.component.Component.*;
+
+/**
+ * 注解组件注册：读取编译时生成的组件索引，将标注的类和方法注册为组件。
+ * 类路径中存在生成的ComponentRegistry时，优先使用注册表注册
+ */
+public class ComponentScanner
+{
+    /**
+     * 组件索引在类路径中的位置
+     */
+    public static final String INDEX_LOCATION = "META-INF/byx-container/components.index";
+
+    /**
+     * 使用当前线程的类加载器读取组件索引，注册其中的组件
+     * @param container 容器
+     */
+    public static void scan(Container container)
+    {
+        scan(container, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * 加载类路径中所有的组件注册表并读取所有的组件索引，注册其中的组件
+     * @param container 容器
+     * @param loader 类加载器
+     */
+    public static void scan(Container container, ClassLoader loader)
+    {
+        Set<String> registered = new HashSet<>();
+        for (ComponentRegistry registry : ServiceLoader.load(ComponentRegistry.class, loader))
+        {
+            registry.register(container);
+            registered.addAll(registry.getTypes());
+        }
+
+        List<Class<?>> types = new ArrayList<>();
+        for (String name : readIndex(loader))
+        {
+            if (registered.contains(name))
+            {
+                continue;
+            }
+            try
+            {
+                types.add(Class.forName(name, false, loader));
+            }
+            catch (ClassNotFoundException e)
+            {
+                throw new ByxContainerException(Message.componentIndexLoadFailed(name), e);
+            }
+        }
+        register(container, types.toArray(new Class<?>[0]));
+    }
+
+    /**
+     * 注册指定类中标注的组件
+     * @param container 容器
+     * @param types 标注了ByxComponent或含有Factory方法的类
+     */
+    public static void register(Container container, Class<?>... types)
+    {
+        for (Class<?> type : types)
+        {
+            ByxComponent annotation = type.getAnnotation(ByxComponent.class);
+            if (annotation != null)
+            {
+                registerClass(container, type, annotation);
+            }
+
+            Method[] methods = type.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::toString));
+            for (Method method : methods)
+            {
+                Factory factory = method.getAnnotation(Factory.class);
+                if (factory != null)
+                {
+                    registerFactory(container, type, method, factory);
+                }
+            }
+        }
+    }
+
+    private static List<String> readIndex(ClassLoader loader)
+    {
+        List<String> names = new ArrayList<>();
+        try
+        {
+            Enumeration<URL> urls = loader.getResources(INDEX_LOCATION);
+            while (urls.hasMoreElements())
+            {
+                URL url = urls.nextElement();
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)))
+                {
+                    String line;
+                    while ((line = reader.readLine()) != null)
+                    {
+                        line = line.strip();
+                        if (!line.isEmpty() && !line.startsWith("#"))
+                        {
+                            names.add(line);
+                        }
+                    }
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw new ByxContainerException(Message.componentIndexLoadFailed(INDEX_LOCATION), e);
+        }
+        return names;
+    }
+
+    private static void registerClass(Container container, Class<?> type, ByxComponent annotation)
+    {
+        Constructor<?> constructor = injectableConstructor(type);
+        Component c = constructor(type, dependencies(container, constructor.getParameters()));
+
+        for (Class<?> t = type; t != null && t != Object.class; t = t.getSuperclass())
+        {
+            for (Field field : t.getDeclaredFields())
+            {
+                if (field.isAnnotationPresent(Inject.class))
+                {
+                    c = c.invokeSetter(findSetter(type, field).getName(),
+                            dependency(container, field.getType(), field.getAnnotation(Id.class), field.getAnnotation(Qualifier.class)));
+                }
+            }
+        }
+
+        String id = annotation.id().isEmpty() ? defaultId(type) : annotation.id();
+        container.addComponent(id, decorate(c, id, annotation.singleton(), annotation.qualifiers(),
+                annotation.primary(), annotation.priority()));
+    }
+
+    private static void registerFactory(Container container, Class<?> type, Method method, Factory annotation)
+    {
+        if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isStatic(method.getModifiers()))
+        {
+            throw new ByxContainerException(Message.factoryNotPublicStatic(type, method.getName()));
+        }
+
+        Component c = declareType(staticFactory(type, method.getName(),
+                dependencies(container, method.getParameters())), method.getReturnType());
+        String id = annotation.id().isEmpty() ? method.getName() : annotation.id();
+        container.addComponent(id, decorate(c, id, annotation.singleton(), annotation.qualifiers(),
+                annotation.primary(), annotation.priority()));
+    }
+
+    private static Constructor<?> injectableConstructor(Class<?> type)
+    {
+        Constructor<?> injectable = null;
+        for (Constructor<?> c : type.getConstructors())
+        {
+            if (c.isAnnotationPresent(Inject.class))
+            {
+                if (injectable != null)
+                {
+                    throw new ByxContainerException(Message.injectableConstructorNotFound(type));
+                }
+                injectable = c;
+            }
+        }
+        if (injectable != null)
+        {
+            return injectable;
+        }
+
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1)
+        {
+            throw new ByxContainerException(Message.injectableConstructorNotFound(type));
+        }
+        return constructors[0];
+    }
+
+    /**
+     * 查找注入字段的public setter，与编译时生成的代码一样不需要getter
+     */
+    private static Method findSetter(Class<?> type, Field field)
+    {
+        String name = field.getName();
+        String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (Method m : type.getMethods())
+        {
+            if (m.getName().equals(setterName) && m.getParameterCount() == 1 && !Modifier.isStatic(m.getModifiers())
+                    && ReflectUtils.isAssignable(m.getParameterTypes()[0], field.getType()))
+            {
+                return m;
+            }
+        }
+        throw new ByxContainerException(Message.injectSetterNotFound(type, field.getName(), setterName));
+    }
+
+    private static Component[] dependencies(Container container, Parameter[] parameters)
+    {
+        return Arrays.stream(parameters)
+                .map(p -> dependency(container, p.getType(), p.getAnnotation(Id.class), p.getAnnotation(Qualifier.class)))
+                .toArray(Component[]::new);
+    }
+
+    private static Component dependency(Container container, Class<?> type, Id id, Qualifier qualifier)
+    {
+        if (id != null)
+        {
+            return reference(container, id.value());
+        }
+        return type(container, type, qualifier == null ? null : qualifier.value());
+    }
+
+    /**
+     * 按类型注入的参数在创建前类型未知，使用方法声明的返回类型作为组件类型
+     */
+    private static Component declareType(Component c, Class<?> type)
+    {
+        return new Component()
+        {
+            @Override
+            public Object create()
+            {
+                return c.create();
+            }
+
+            @Override
+            public Class<?> getType()
+            {
+                return type;
+            }
+        };
+    }
+
+    private static Component decorate(Component c, String id, boolean singleton, String[] qualifiers,
+                                      boolean primary, int priority)
+    {
+        if (singleton)
+        {
+            c = c.singleton(id);
+        }
+        if (qualifiers.length > 0)
+        {
+            c = c.qualify(qualifiers);
+        }
+        if (primary)
+        {
+            c = c.primary();
+        }
+        if (priority != 0)
+        {
+            c = c.priority(priority);
+        }
+        return c;
+    }
+
+    private static String defaultId(Class<?> type)
+    {
+        String name = type.getSimpleName();
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
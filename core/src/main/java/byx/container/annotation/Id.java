@@ -0,0 +1,19 @@
+package byx.container.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 按id注入依赖，未标注时按类型注入
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.PARAMETER, ElementType.FIELD})
+public @interface Id
+{
+    /**
+     * 依赖的组件id
+     */
+    String value();
+}
@@ -0,0 +1,16 @@
+package byx.container.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标注在构造函数上时指定创建对象使用的构造函数，
+ * 标注在字段上时将该字段作为JavaBean属性注入（需要getter和setter）
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.CONSTRUCTOR, ElementType.FIELD})
+public @interface Inject
+{
+}
@@ -0,0 +1,19 @@
+package byx.container.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 按类型注入依赖时使用的限定符
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.PARAMETER, ElementType.FIELD})
+public @interface Qualifier
+{
+    /**
+     * 限定符
+     */
+    String value();
+}
@@ -0,0 +1,502 @@
+package byx.container.component;
+
+import byx.container.ComponentKey;
+import byx.container.Container;
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+import byx.container.util.ReflectUtils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * 组件：能够从IOC容器中获取的一个对象。
+ * 所有的组件都被IOC容器管理，每个组件都封装了自己与其他组件的依赖关系。
+ * 换句话说，每个组件都知道如何创建自己，这些信息封装在create方法中。
+ * 每次从IOC容器中获取某个组件时，该组件的create方法将被调用。
+ * Component中还封装了一些常用的静态方法和默认方法
+ */
+public interface Component
+{
+    /**
+     * 创建组件
+     * @return 组件对象
+     */
+    Object create();
+
+    /**
+     * 获取类型
+     * @return 组件生成的类型
+     */
+    Class<?> getType();
+
+    /**
+     * 常量折叠
+     * 如果组件的创建结果在解析时就能确定，则返回等价的常量组件，否则返回组件本身
+     * @return 折叠后的组件
+     */
+    default Component fold()
+    {
+        return this;
+    }
+
+    /**
+     * 依次创建所有组件
+     * @param components 组件
+     * @return 创建的对象
+     */
+    static Object[] createAll(Component... components)
+    {
+        Object[] res = new Object[components.length];
+        for (int i = 0; i < components.length; ++i)
+        {
+            res[i] = components[i].create();
+        }
+        return res;
+    }
+
+    /**
+     * 判断组件是否为常量组件
+     * @param components 组件列表
+     * @return 如果所有组件都是ValueComponent，则返回true
+     */
+    static boolean isConstant(Component... components)
+    {
+        for (Component c : components)
+        {
+            if (!(c instanceof ValueComponent)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 将对象归还给组件
+     * 默认不做任何处理，池化组件会将对象放回对象池
+     * @param obj 由该组件创建的对象
+     */
+    default void release(Object obj)
+    {
+    }
+
+    /**
+     * 获取限定符
+     * @return 组件的限定符集合
+     */
+    default Set<String> getQualifiers()
+    {
+        return Set.of();
+    }
+
+    /**
+     * 是否为首选组件
+     * @return 按类型获取组件时，如果该组件应优先于其它候选组件，则返回true
+     */
+    default boolean isPrimary()
+    {
+        return false;
+    }
+
+    /**
+     * 获取优先级
+     * @return 按类型获取组件时的优先级，数值越大越优先
+     */
+    default int getPriority()
+    {
+        return 0;
+    }
+
+    /**
+     * 创建ValueComponent
+     * @param value 值
+     * @return 用value构造的ValueComponent
+     */
+    static Component value(Object value)
+    {
+        return new ValueComponent(value);
+    }
+
+    /**
+     * 创建int常数组件
+     * @param value 值
+     * @return PrimitiveValueComponent
+     */
+    static PrimitiveValueComponent intValue(int value)
+    {
+        return new PrimitiveValueComponent(value);
+    }
+
+    /**
+     * 创建long常数组件
+     * @param value 值
+     * @return PrimitiveValueComponent
+     */
+    static PrimitiveValueComponent longValue(long value)
+    {
+        return new PrimitiveValueComponent(value);
+    }
+
+    /**
+     * 创建float常数组件
+     * @param value 值
+     * @return PrimitiveValueComponent
+     */
+    static PrimitiveValueComponent floatValue(float value)
+    {
+        return new PrimitiveValueComponent(value);
+    }
+
+    /**
+     * 创建double常数组件
+     * @param value 值
+     * @return PrimitiveValueComponent
+     */
+    static PrimitiveValueComponent doubleValue(double value)
+    {
+        return new PrimitiveValueComponent(value);
+    }
+
+    /**
+     * 创建boolean常数组件
+     * @param value 值
+     * @return PrimitiveValueComponent
+     */
+    static PrimitiveValueComponent booleanValue(boolean value)
+    {
+        return new PrimitiveValueComponent(value);
+    }
+
+    /**
+     * 创建构造函数Component
+     * @param type 类型
+     * @param params 参数组件
+     * @return 构造函数Component
+     */
+    static Component constructor(Class<?> type, Component... params)
+    {
+        return new ConstructorComponent(type, params);
+    }
+
+    /**
+     * 创建静态工厂Component
+     * @param type 类型
+     * @param method 方法名
+     * @param params 参数组件
+     * @return 静态工厂Component
+     */
+    static Component staticFactory(Class<?> type, String method, Component... params)
+    {
+        return new StaticFactoryComponent(type, method, params);
+    }
+
+    /**
+     * 创建实例工厂Component
+     * @param instance 实例组件
+     * @param method 方法名
+     * @param params 参数组件
+     * @return 实例工厂Component
+     */
+    static Component instanceFactory(Component instance, String method, Component... params)
+    {
+        return new InstanceFactoryComponent(instance, method, params);
+    }
+
+    /**
+     * 对组件创建的对象进行后置处理
+     * @param processor 后置处理器
+     * @return PostProcessComponent
+     */
+    default Component postProcess(PostProcessor processor)
+    {
+        return new PostProcessComponent(this, processor);
+    }
+
+    /**
+     * 设置当前Component创建的对象的属性
+     * @param property 属性名
+     * @param value 属性值
+     * @return MapperComponent
+     */
+    default Component setProperty(String property, Component value)
+    {
+        return this.postProcess(obj ->
+        {
+            Object v = value.create();
+            try
+            {
+                ReflectUtils.setProperty(obj, property, v);
+            }
+            catch (Exception e)
+            {
+                throw new ByxContainerException(Message.propertyNotFount(obj.getClass(), property, v.getClass()), e);
+            }
+        });
+    }
+
+    /**
+     * 在当前Component创建后的对象上调用setter方法
+     * @param setter setter方法名称
+     * @param params setter方法参数
+     * @return MapperComponent
+     */
+    default Component invokeSetter(String setter, Component... params)
+    {
+        return this.postProcess(obj ->
+        {
+            Object[] p = Arrays.stream(params).map(Component::create).toArray();
+            try
+            {
+                ReflectUtils.call(obj, setter, p);
+            }
+            catch (Exception e)
+            {
+                throw new ByxContainerException(() -> Message.setterNotFound(obj.getClass(), setter, p), e);
+            }
+        });
+    }
+
+    /**
+     * 为当前组件添加限定符
+     * @param qualifiers 限定符
+     * @return QualifiedComponent
+     */
+    default Component qualify(String... qualifiers)
+    {
+        Set<String> set = new LinkedHashSet<>(getQualifiers());
+        set.addAll(Arrays.asList(qualifiers));
+        return new QualifiedComponent(this, Collections.unmodifiableSet(set), isPrimary(), getPriority());
+    }
+
+    /**
+     * 将当前组件设为首选组件
+     * @return QualifiedComponent
+     */
+    default Component primary()
+    {
+        return new QualifiedComponent(this, getQualifiers(), true, getPriority());
+    }
+
+    /**
+     * 设置当前组件的优先级
+     * @param priority 优先级
+     * @return QualifiedComponent
+     */
+    default Component priority(int priority)
+    {
+        return new QualifiedComponent(this, getQualifiers(), isPrimary(), priority);
+    }
+
+    /**
+     * 将当前组件变为单例
+     * @return SingletonComponent
+     */
+    default Component singleton()
+    {
+        return new SingletonComponent(this);
+    }
+
+    /**
+     * 将当前组件变为单例，组件id记录在单例初始化事件中
+     * @param id 组件id
+     * @return SingletonComponent
+     */
+    default Component singleton(String id)
+    {
+        return new SingletonComponent(this, id);
+    }
+
+    /**
+     * 将当前组件变为池化组件
+     * @param capacity 对象池容量
+     * @return PooledComponent
+     */
+    default PooledComponent pooled(int capacity)
+    {
+        return new PooledComponent(this, capacity, null);
+    }
+
+    /**
+     * 将当前组件变为池化组件
+     * @param capacity 对象池容量
+     * @param reset 对象归还时的重置处理器
+     * @return PooledComponent
+     */
+    default PooledComponent pooled(int capacity, PostProcessor reset)
+    {
+        return new PooledComponent(this, capacity, reset);
+    }
+
+    /**
+     * 将当前组件变为延迟组件，代理接口为组件的类型
+     * @return LazyComponent
+     */
+    default Component lazy()
+    {
+        return new LazyComponent(this, null);
+    }
+
+    /**
+     * 将当前组件变为延迟组件
+     * @param type 代理接口
+     * @return LazyComponent
+     */
+    default Component lazy(Class<?> type)
+    {
+        return new LazyComponent(this, type);
+    }
+
+    /**
+     * 将当前组件变为Supplier形式的延迟组件，第一次调用Supplier的get方法时才创建对象
+     * @return SupplierComponent
+     */
+    default Component supplier()
+    {
+        return new SupplierComponent(this);
+    }
+
+    /**
+     * 创建引用组件
+     * @param container 容器
+     * @param id 组件的唯一标识
+     * @return ReferenceComponent
+     */
+    static Component reference(Container container, String id)
+    {
+        return new ReferenceComponent(container, id);
+    }
+
+    /**
+     * 创建引用组件
+     * @param container 容器
+     * @param key 组件键
+     * @return ReferenceComponent
+     */
+    static Component reference(Container container, ComponentKey key)
+    {
+        return new ReferenceComponent(container, key);
+    }
+
+    /**
+     * 创建list组件
+     * @param components 多个组件
+     * @return ListComponent
+     */
+    static Component list(Component... components)
+    {
+        return new ListComponent(components);
+    }
+
+    /**
+     * 创建list组件
+     * @param factory 列表工厂，参数为元素个数
+     * @param components 多个组件
+     * @return ListComponent
+     */
+    static Component list(IntFunction<? extends List<Object>> factory, Component... components)
+    {
+        return new ListComponent(factory, components);
+    }
+
+    /**
+     * 创建set组件
+     * @param components 组件列表
+     * @return SetComponent
+     */
+    static Component set(Component... components)
+    {
+        return new SetComponent(components);
+    }
+
+    /**
+     * 创建set组件
+     * @param factory 集合工厂，参数为元素个数
+     * @param components 组件列表
+     * @return SetComponent
+     */
+    static Component set(IntFunction<? extends Set<Object>> factory, Component... components)
+    {
+        return new SetComponent(factory, components);
+    }
+
+    /**
+     * 创建map组件
+     * @param componentMap 组件map
+     * @return MapComponent
+     */
+    static Component map(Map<Component, Component> componentMap)
+    {
+        return new MapComponent(componentMap);
+    }
+
+    /**
+     * 创建map组件
+     * @param keys 键组件
+     * @param values 值组件，与keys一一对应
+     * @return MapComponent
+     */
+    static Component map(Component[] keys, Component[] values)
+    {
+        return new MapComponent(keys, values);
+    }
+
+    /**
+     * 创建map组件
+     * @param factory map工厂，参数为键值对个数
+     * @param keys 键组件
+     * @param values 值组件，与keys一一对应
+     * @return MapComponent
+     */
+    static Component map(IntFunction<? extends Map<Object, Object>> factory, Component[] keys, Component[] values)
+    {
+        return new MapComponent(factory, keys, values);
+    }
+
+    /**
+     * 创建条件组件
+     * @param predicate 谓词
+     * @param c1 predicate为true时返回的组件
+     * @param c2 predicate为false时返回的组件
+     * @return ConditionComponent
+     */
+    static Component condition(Component predicate, Component c1, Component c2)
+    {
+        return new ConditionComponent(predicate, c1, c2);
+    }
+
+    /**
+     * 获取容器中指定类型的组件
+     * @param container 容器
+     * @param type 类型
+     * @return TypeComponent
+     */
+    static Component type(Container container, Class<?> type)
+    {
+        return new TypeComponent(container, type);
+    }
+
+    /**
+     * 获取容器中指定类型和限定符的组件
+     * @param container 容器
+     * @param type 类型
+     * @param qualifier 限定符
+     * @return TypeComponent
+     */
+    static Component type(Container container, Class<?> type, String qualifier)
+    {
+        return new TypeComponent(container, type, qualifier);
+    }
+
+    /**
+     * 获取容器中指定类型的所有组件
+     * @param container 容器
+     * @param type 类型
+     * @return TypeListComponent
+     */
+    static Component typeList(Container container, Class<?> type)
+    {
+        return new TypeListComponent(container, type);
+    }
+}
@@ -29,4 +29,13 @@ public class ConditionComponent implements Component
     {
         return null;
     }
+
+    @Override
+    public Component fold()
+    {
+        if (!Component.isConstant(predicate)) return this;
+        Object p = predicate.create();
+        if (p instanceof Boolean && (boolean) p) return c1;
+        return c2;
+    }
 }
@@ -26,11 +26,11 @@ public class ConstructorComponent implements Component
 
         try
         {
-            return ReflectUtils.create(type, p);
+            return ReflectUtils.create(type, PrimitiveValueComponent.getParameterTypes(params, p), p);
         }
         catch (Exception e)
         {
-            throw new ByxContainerException(Message.constructorNotFound(type, p), e);
+            throw new ByxContainerException(() -> Message.constructorNotFound(type, p), e);
         }
     }
 
@@ -5,6 +5,7 @@ import byx.container.exception.Message;
 import byx.container.util.ReflectUtils;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * 使用实例工厂创建对象
@@ -31,11 +32,11 @@ public class InstanceFactoryComponent implements Component
 
         try
         {
-            return ReflectUtils.call(i, method, p);
+            return ReflectUtils.call(i, method, PrimitiveValueComponent.getParameterTypes(params, p), p);
         }
         catch (Exception e)
         {
-            throw new ByxContainerException(Message.instanceFactoryNotFound(i.getClass(), method, p), e);
+            throw new ByxContainerException(() -> Message.instanceFactoryNotFound(i.getClass(), method, p), e);
         }
     }
 
@@ -44,7 +45,8 @@ public class InstanceFactoryComponent implements Component
     {
         Class<?> type = instance.getType();
         if (type == null) return null;
-        Class<?>[] parameterTypes = Arrays.stream(params).map(Component::getType).toArray(Class[]::new);
+        Class<?>[] parameterTypes = PrimitiveValueComponent.getParameterTypes(params);
+        if (Arrays.stream(parameterTypes).anyMatch(Objects::isNull)) return null;
         return ReflectUtils.getReturnType(type, method, parameterTypes);
     }
 }
@@ -0,0 +1,147 @@
+package byx.container.component;
+
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+/**
+ * 延迟组件：返回目标接口的代理对象，第一次调用代理对象的方法时才创建真正的对象。
+ * 代理对象的equals、hashCode和toString使用代理对象自身的身份，不转发给目标对象
+ */
+public class LazyComponent implements Component
+{
+    /**
+     * 代理类的构造函数，按接口缓存，避免重复生成代理类
+     */
+    private static final ClassValue<Constructor<?>> proxyConstructors = new ClassValue<>()
+    {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type)
+        {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, m, args) -> null);
+            try
+            {
+                return proxy.getClass().getConstructor(InvocationHandler.class);
+            }
+            catch (NoSuchMethodException e)
+            {
+                throw new ByxContainerException(Message.lazyTypeNotInterface(type), e);
+            }
+        }
+    };
+
+    private final Component component;
+    private final Class<?> type;
+
+    public LazyComponent(Component component, Class<?> type)
+    {
+        this.component = component;
+        this.type = type;
+    }
+
+    @Override
+    public Object create()
+    {
+        Class<?> t = getType();
+        if (t == null || !t.isInterface())
+            throw new ByxContainerException(Message.lazyTypeNotInterface(t));
+        try
+        {
+            return proxyConstructors.get(t).newInstance(new LazyHandler(component));
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new ByxContainerException(Message.lazyTypeNotInterface(t), e);
+        }
+    }
+
+    @Override
+    public Class<?> getType()
+    {
+        return type != null ? type : component.getType();
+    }
+
+    @Override
+    public Set<String> getQualifiers()
+    {
+        return component.getQualifiers();
+    }
+
+    @Override
+    public boolean isPrimary()
+    {
+        return component.isPrimary();
+    }
+
+    @Override
+    public int getPriority()
+    {
+        return component.getPriority();
+    }
+
+    /**
+     * 第一次调用时创建目标对象，之后的调用都转发到该对象
+     */
+    private static class LazyHandler implements InvocationHandler
+    {
+        private final Component component;
+        private volatile Object target;
+
+        public LazyHandler(Component component)
+        {
+            this.component = component;
+        }
+
+        private Object getTarget()
+        {
+            Object t = target;
+            if (t == null)
+            {
+                synchronized (this)
+                {
+                    t = target;
+                    if (t == null)
+                    {
+                        t = component.create();
+                        target = t;
+                    }
+                }
+            }
+            return t;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+        {
+            // equals、hashCode和toString按代理对象自身的身份处理，不会创建目标对象
+            if (method.getDeclaringClass() == Object.class)
+            {
+                switch (method.getName())
+                {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return proxy.getClass().getInterfaces()[0].getName() + "@"
+                                + Integer.toHexString(System.identityHashCode(proxy));
+                }
+            }
+
+            try
+            {
+                return method.invoke(getTarget(), args);
+            }
+            catch (InvocationTargetException e)
+            {
+                throw e.getCause();
+            }
+        }
+    }
+}
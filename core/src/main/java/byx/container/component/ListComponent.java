@@ -0,0 +1,55 @@
+package byx.container.component;
+
+import byx.container.util.CompactCollections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * 将多个组件的创建结果封装成列表
+ */
+public class ListComponent implements Component
+{
+    private final IntFunction<? extends List<Object>> factory;
+    private final Component[] components;
+
+    public ListComponent(Component... components)
+    {
+        this(ArrayList::new, components);
+    }
+
+    /**
+     * @param factory 列表工厂，参数为元素个数
+     * @param components 元素组件
+     */
+    public ListComponent(IntFunction<? extends List<Object>> factory, Component... components)
+    {
+        this.factory = factory;
+        this.components = components;
+    }
+
+    @Override
+    public Object create()
+    {
+        List<Object> list = factory.apply(components.length);
+        for (Component c : components)
+        {
+            list.add(c.create());
+        }
+        return list;
+    }
+
+    @Override
+    public Class<?> getType()
+    {
+        return List.class;
+    }
+
+    @Override
+    public Component fold()
+    {
+        if (!Component.isConstant(components)) return this;
+        return new ValueComponent(CompactCollections.list(Component.createAll(components)), List.class);
+    }
+}
@@ -0,0 +1,64 @@
+package byx.container.component;
+
+import byx.container.util.CollectionUtils;
+import byx.container.util.CompactCollections;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 将多个组件的创建结果封装成map，默认保持键值对的声明顺序
+ */
+public class MapComponent implements Component
+{
+    private final IntFunction<? extends Map<Object, Object>> factory;
+    private final Component[] keys;
+    private final Component[] values;
+
+    public MapComponent(Map<Component, Component> componentMap)
+    {
+        this(componentMap.keySet().toArray(new Component[0]), componentMap.values().toArray(new Component[0]));
+    }
+
+    public MapComponent(Component[] keys, Component[] values)
+    {
+        this(n -> new LinkedHashMap<>(CollectionUtils.hashCapacity(n)), keys, values);
+    }
+
+    /**
+     * @param factory map工厂，参数为键值对个数
+     * @param keys 键组件
+     * @param values 值组件，与keys一一对应
+     */
+    public MapComponent(IntFunction<? extends Map<Object, Object>> factory, Component[] keys, Component[] values)
+    {
+        this.factory = factory;
+        this.keys = keys;
+        this.values = values;
+    }
+
+    @Override
+    public Object create()
+    {
+        Map<Object, Object> map = factory.apply(keys.length);
+        for (int i = 0; i < keys.length; ++i)
+        {
+            map.put(keys[i].create(), values[i].create());
+        }
+        return map;
+    }
+
+    @Override
+    public Class<?> getType()
+    {
+        return Map.class;
+    }
+
+    @Override
+    public Component fold()
+    {
+        if (!Component.isConstant(keys) || !Component.isConstant(values)) return this;
+        return new ValueComponent(CompactCollections.map(Component.createAll(keys), Component.createAll(values)), Map.class);
+    }
+}
@@ -0,0 +1,69 @@
+package byx.container.component;
+
+/**
+ * 对象池统计信息
+ */
+public class PoolMetrics
+{
+    private final long hits;
+    private final long misses;
+    private final int idle;
+    private final int inUse;
+    private final int highWaterMark;
+
+    public PoolMetrics(long hits, long misses, int idle, int inUse, int highWaterMark)
+    {
+        this.hits = hits;
+        this.misses = misses;
+        this.idle = idle;
+        this.inUse = inUse;
+        this.highWaterMark = highWaterMark;
+    }
+
+    /**
+     * 从池中取到对象的次数
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * 池为空、需要新建对象的次数
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * 当前池中的空闲对象数
+     */
+    public int getIdle()
+    {
+        return idle;
+    }
+
+    /**
+     * 当前借出、尚未归还的对象数
+     */
+    public int getInUse()
+    {
+        return inUse;
+    }
+
+    /**
+     * 同时借出的对象数的历史最大值，可以作为设置池容量的参考
+     */
+    public int getHighWaterMark()
+    {
+        return highWaterMark;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("PoolMetrics{hits=%d, misses=%d, idle=%d, inUse=%d, highWaterMark=%d}",
+                hits, misses, idle, inUse, highWaterMark);
+    }
+}
@@ -0,0 +1,176 @@
+package byx.container.component;
+
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 池化组件：create从对象池中取出对象，池为空时才创建新对象；
+ * 使用完毕的对象通过release归还，归还前可以调用重置处理器清理对象状态。
+ * 对象池容量固定，基于CAS实现，不使用锁；每个线程从不同的位置开始查找，以减少竞争。
+ * 借出的对象在归还前一直被记录，只有借出且尚未归还的对象才能归还，重复归还或归还其他对象时忽略。
+ */
+public class PooledComponent implements Component
+{
+    private final Component component;
+    private final PostProcessor reset;
+    private final AtomicReferenceArray<Object> pool;
+    private final Set<Identity> checkedOut = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger idle = new AtomicInteger();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger highWaterMark = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PooledComponent(Component component, int capacity, PostProcessor reset)
+    {
+        if (capacity <= 0)
+            throw new ByxContainerException(Message.invalidPoolCapacity(capacity));
+        this.component = component;
+        this.reset = reset;
+        this.pool = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public Object create()
+    {
+        return acquire();
+    }
+
+    @Override
+    public Class<?> getType()
+    {
+        return component.getType();
+    }
+
+    /**
+     * 从池中取出一个对象，池为空时创建新对象
+     * @return 对象
+     */
+    public Object acquire()
+    {
+        if (idle.get() > 0)
+        {
+            int capacity = pool.length();
+            int index = probe();
+            for (int i = 0; i < capacity; ++i)
+            {
+                Object obj = pool.get(index);
+                if (obj != null && pool.compareAndSet(index, obj, null))
+                {
+                    idle.decrementAndGet();
+                    hits.increment();
+                    checkOut(obj);
+                    return obj;
+                }
+                if (++index == capacity) index = 0;
+            }
+        }
+        misses.increment();
+        Object obj = component.create();
+        checkOut(obj);
+        return obj;
+    }
+
+    /**
+     * 将对象归还到池中，池已满时丢弃该对象，对象不是从池中借出或已经归还时忽略
+     * @param obj 对象
+     */
+    @Override
+    public void release(Object obj)
+    {
+        if (obj == null || !checkedOut.remove(new Identity(obj))) return;
+        inUse.decrementAndGet();
+
+        // 先占用一个空闲位置，池已满时直接丢弃对象，不执行重置处理器
+        int capacity = pool.length();
+        int n;
+        do
+        {
+            n = idle.get();
+            if (n >= capacity) return;
+        } while (!idle.compareAndSet(n, n + 1));
+        if (reset != null) reset.process(obj);
+
+        // 已占用位置，一定能找到空位，其他线程同时归还时可能需要多次查找
+        int index = probe();
+        while (pool.get(index) != null || !pool.compareAndSet(index, null, obj))
+        {
+            if (++index == capacity) index = 0;
+        }
+    }
+
+    /**
+     * 获取统计信息
+     * @return 对象池统计信息
+     */
+    public PoolMetrics getMetrics()
+    {
+        return new PoolMetrics(hits.sum(), misses.sum(), idle.get(), inUse.get(), highWaterMark.get());
+    }
+
+    @Override
+    public Set<String> getQualifiers()
+    {
+        return component.getQualifiers();
+    }
+
+    @Override
+    public boolean isPrimary()
+    {
+        return component.isPrimary();
+    }
+
+    @Override
+    public int getPriority()
+    {
+        return component.getPriority();
+    }
+
+    /**
+     * 记录一个借出的对象，并更新借出对象数的历史最大值
+     */
+    private void checkOut(Object obj)
+    {
+        checkedOut.add(new Identity(obj));
+        highWaterMark.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+    }
+
+    /**
+     * 当前线程开始查找的位置
+     */
+    private int probe()
+    {
+        return (int) (Thread.currentThread().getId() % pool.length());
+    }
+
+    /**
+     * 按引用比较的对象，借出的对象可能重写了equals和hashCode
+     */
+    private static class Identity
+    {
+        private final Object obj;
+
+        private Identity(Object obj)
+        {
+            this.obj = obj;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof Identity && ((Identity) o).obj == obj;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(obj);
+        }
+    }
+}
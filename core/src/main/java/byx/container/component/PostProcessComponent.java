@@ -1,5 +1,7 @@
 package byx.container.component;
 
+import java.util.Set;
+
 /**
  * 对组件创建的结果进行进一步处理
  */
@@ -27,4 +29,22 @@ public class PostProcessComponent implements Component
     {
         return component.getType();
     }
+
+    @Override
+    public Set<String> getQualifiers()
+    {
+        return component.getQualifiers();
+    }
+
+    @Override
+    public boolean isPrimary()
+    {
+        return component.isPrimary();
+    }
+
+    @Override
+    public int getPriority()
+    {
+        return component.getPriority();
+    }
 }
@@ -0,0 +1,79 @@
+package byx.container.component;
+
+/**
+ * 包装一个基本类型常数的组件，除了装箱后的值，还保存了对应的基本类型。
+ * 作为构造函数或工厂方法的参数时，按基本类型进行重载决议，如remove(int)优先于remove(Object)
+ */
+public class PrimitiveValueComponent extends ValueComponent
+{
+    private final Class<?> primitiveType;
+
+    public PrimitiveValueComponent(int value)
+    {
+        super(value);
+        this.primitiveType = int.class;
+    }
+
+    public PrimitiveValueComponent(long value)
+    {
+        super(value);
+        this.primitiveType = long.class;
+    }
+
+    public PrimitiveValueComponent(float value)
+    {
+        super(value);
+        this.primitiveType = float.class;
+    }
+
+    public PrimitiveValueComponent(double value)
+    {
+        super(value);
+        this.primitiveType = double.class;
+    }
+
+    public PrimitiveValueComponent(boolean value)
+    {
+        super(value);
+        this.primitiveType = boolean.class;
+    }
+
+    /**
+     * 获取基本类型
+     * @return int.class、long.class、float.class、double.class或boolean.class
+     */
+    public Class<?> getPrimitiveType()
+    {
+        return primitiveType;
+    }
+
+    /**
+     * 获取参数用于重载决议的类型，基本类型常数使用基本类型，其余参数使用组件类型
+     */
+    static Class<?>[] getParameterTypes(Component[] params)
+    {
+        Class<?>[] types = new Class[params.length];
+        for (int i = 0; i < params.length; ++i)
+        {
+            types[i] = params[i] instanceof PrimitiveValueComponent
+                    ? ((PrimitiveValueComponent) params[i]).primitiveType
+                    : params[i].getType();
+        }
+        return types;
+    }
+
+    /**
+     * 获取参数用于重载决议的类型，基本类型常数使用基本类型，其余参数使用实际值的类型
+     */
+    static Class<?>[] getParameterTypes(Component[] params, Object[] values)
+    {
+        Class<?>[] types = new Class[params.length];
+        for (int i = 0; i < params.length; ++i)
+        {
+            types[i] = params[i] instanceof PrimitiveValueComponent
+                    ? ((PrimitiveValueComponent) params[i]).primitiveType
+                    : values[i].getClass();
+        }
+        return types;
+    }
+}
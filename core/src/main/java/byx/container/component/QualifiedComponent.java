@@ -0,0 +1,58 @@
+package byx.container.component;
+
+import java.util.Set;
+
+/**
+ * 带限定符和优先级的组件：按类型获取组件时，用于在多个候选组件中选出唯一的组件
+ */
+public class QualifiedComponent implements Component
+{
+    private final Component component;
+    private final Set<String> qualifiers;
+    private final boolean primary;
+    private final int priority;
+
+    public QualifiedComponent(Component component, Set<String> qualifiers, boolean primary, int priority)
+    {
+        this.component = component;
+        this.qualifiers = qualifiers;
+        this.primary = primary;
+        this.priority = priority;
+    }
+
+    @Override
+    public Object create()
+    {
+        return component.create();
+    }
+
+    @Override
+    public Class<?> getType()
+    {
+        return component.getType();
+    }
+
+    @Override
+    public void release(Object obj)
+    {
+        component.release(obj);
+    }
+
+    @Override
+    public Set<String> getQualifiers()
+    {
+        return qualifiers;
+    }
+
+    @Override
+    public boolean isPrimary()
+    {
+        return primary;
+    }
+
+    @Override
+    public int getPriority()
+    {
+        return priority;
+    }
+}
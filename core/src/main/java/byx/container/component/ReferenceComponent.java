@@ -0,0 +1,45 @@
+package byx.container.component;
+
+import byx.container.ComponentKey;
+import byx.container.Container;
+
+/**
+ * 对容器中组件的引用
+ */
+public class ReferenceComponent implements Component
+{
+    private final Container container;
+    private final ComponentKey key;
+
+    public ReferenceComponent(Container container, String id)
+    {
+        this(container, container.getKey(id));
+    }
+
+    public ReferenceComponent(Container container, ComponentKey key)
+    {
+        this.container = container;
+        this.key = key;
+    }
+
+    @Override
+    public Object create()
+    {
+        return container.getObject(key);
+    }
+
+    @Override
+    public Class<?> getType()
+    {
+        return container.getType(key);
+    }
+
+    /**
+     * 将对象归还给被引用的组件
+     */
+    @Override
+    public void release(Object obj)
+    {
+        container.releaseObject(key.getId(), obj);
+    }
+}
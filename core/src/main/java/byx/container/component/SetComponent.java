@@ -0,0 +1,56 @@
+package byx.container.component;
+
+import byx.container.util.CollectionUtils;
+import byx.container.util.CompactCollections;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * 将多个组件的创建结果封装成集合，默认保持元素的声明顺序
+ */
+public class SetComponent implements Component
+{
+    private final IntFunction<? extends Set<Object>> factory;
+    private final Component[] components;
+
+    public SetComponent(Component[] components)
+    {
+        this(n -> new LinkedHashSet<>(CollectionUtils.hashCapacity(n)), components);
+    }
+
+    /**
+     * @param factory 集合工厂，参数为元素个数
+     * @param components 元素组件
+     */
+    public SetComponent(IntFunction<? extends Set<Object>> factory, Component[] components)
+    {
+        this.factory = factory;
+        this.components = components;
+    }
+
+    @Override
+    public Object create()
+    {
+        Set<Object> set = factory.apply(components.length);
+        for (Component c : components)
+        {
+            set.add(c.create());
+        }
+        return set;
+    }
+
+    @Override
+    public Class<?> getType()
+    {
+        return Set.class;
+    }
+
+    @Override
+    public Component fold()
+    {
+        if (!Component.isConstant(components)) return this;
+        return new ValueComponent(CompactCollections.set(Component.createAll(components)), Set.class);
+    }
+}
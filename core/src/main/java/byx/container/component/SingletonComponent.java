@@ -0,0 +1,67 @@
+package byx.container.component;
+
+import byx.container.jfr.SingletonInitEvent;
+
+import java.util.Set;
+
+/**
+ * 单例组件
+ */
+public class SingletonComponent implements Component
+{
+    private final Component component;
+    private final String id;
+    private Object obj;
+
+    public SingletonComponent(Component component)
+    {
+        this(component, null);
+    }
+
+    /**
+     * @param component 组件
+     * @param id 组件id，记录在单例初始化事件中，可以为null
+     */
+    public SingletonComponent(Component component, String id)
+    {
+        this.component = component;
+        this.id = id;
+    }
+
+    @Override
+    public Object create()
+    {
+        if (obj == null)
+        {
+            SingletonInitEvent event = new SingletonInitEvent();
+            event.begin();
+            obj = component.create();
+            event.end(id, component.getType());
+        }
+        return obj;
+    }
+
+    @Override
+    public Class<?> getType()
+    {
+        return component.getType();
+    }
+
+    @Override
+    public Set<String> getQualifiers()
+    {
+        return component.getQualifiers();
+    }
+
+    @Override
+    public boolean isPrimary()
+    {
+        return component.isPrimary();
+    }
+
+    @Override
+    public int getPriority()
+    {
+        return component.getPriority();
+    }
+}
@@ -5,6 +5,7 @@ import byx.container.exception.Message;
 import byx.container.util.ReflectUtils;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * 使用静态工厂创建对象
@@ -29,18 +30,19 @@ public class StaticFactoryComponent implements Component
 
         try
         {
-            return ReflectUtils.call(type, method, p);
+            return ReflectUtils.call(type, method, PrimitiveValueComponent.getParameterTypes(params, p), p);
         }
         catch (Exception e)
         {
-            throw new ByxContainerException(Message.staticFactoryNotFound(type, method, p), e);
+            throw new ByxContainerException(() -> Message.staticFactoryNotFound(type, method, p), e);
         }
     }
 
     @Override
     public Class<?> getType()
     {
-        Class<?>[] parameterTypes = Arrays.stream(params).map(Component::getType).toArray(Class[]::new);
+        Class<?>[] parameterTypes = PrimitiveValueComponent.getParameterTypes(params);
+        if (Arrays.stream(parameterTypes).anyMatch(Objects::isNull)) return null;
         return ReflectUtils.getReturnType(type, method, parameterTypes);
     }
 }
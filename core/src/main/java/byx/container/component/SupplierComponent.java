@@ -0,0 +1,81 @@
+package byx.container.component;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Supplier形式的延迟组件：返回一个Supplier，第一次调用get时才创建真正的对象，之后的调用都返回该对象。
+ * 与LazyComponent不同，目标类型不必是接口，但注入的类型是Supplier
+ */
+public class SupplierComponent implements Component
+{
+    private final Component component;
+
+    public SupplierComponent(Component component)
+    {
+        this.component = component;
+    }
+
+    @Override
+    public Object create()
+    {
+        return new LazySupplier(component);
+    }
+
+    @Override
+    public Class<?> getType()
+    {
+        return Supplier.class;
+    }
+
+    @Override
+    public Set<String> getQualifiers()
+    {
+        return component.getQualifiers();
+    }
+
+    @Override
+    public boolean isPrimary()
+    {
+        return component.isPrimary();
+    }
+
+    @Override
+    public int getPriority()
+    {
+        return component.getPriority();
+    }
+
+    /**
+     * 第一次调用get时创建目标对象，之后都返回该对象
+     */
+    private static class LazySupplier implements Supplier<Object>
+    {
+        private final Component component;
+        private volatile Object target;
+
+        public LazySupplier(Component component)
+        {
+            this.component = component;
+        }
+
+        @Override
+        public Object get()
+        {
+            Object t = target;
+            if (t == null)
+            {
+                synchronized (this)
+                {
+                    t = target;
+                    if (t == null)
+                    {
+                        t = component.create();
+                        target = t;
+                    }
+                }
+            }
+            return t;
+        }
+    }
+}
@@ -9,17 +9,24 @@ public class TypeComponent implements Component
 {
     private final Container container;
     private final Class<?> type;
+    private final String qualifier;
 
     public TypeComponent(Container container, Class<?> type)
+    {
+        this(container, type, null);
+    }
+
+    public TypeComponent(Container container, Class<?> type, String qualifier)
     {
         this.container = container;
         this.type = type;
+        this.qualifier = qualifier;
     }
 
     @Override
     public Object create()
     {
-        return container.getObject(type);
+        return container.getObject(type, qualifier);
     }
 
     @Override
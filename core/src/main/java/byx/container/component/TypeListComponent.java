@@ -0,0 +1,32 @@
+package byx.container.component;
+
+import byx.container.Container;
+
+import java.util.List;
+
+/**
+ * 获取容器中指定类型的所有组件，封装成列表
+ */
+public class TypeListComponent implements Component
+{
+    private final Container container;
+    private final Class<?> type;
+
+    public TypeListComponent(Container container, Class<?> type)
+    {
+        this.container = container;
+        this.type = type;
+    }
+
+    @Override
+    public Object create()
+    {
+        return container.getAll(type);
+    }
+
+    @Override
+    public Class<?> getType()
+    {
+        return List.class;
+    }
+}
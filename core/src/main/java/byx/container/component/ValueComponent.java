@@ -6,10 +6,17 @@ package byx.container.component;
 public class ValueComponent implements Component
 {
     private final Object value;
+    private final Class<?> type;
 
     public ValueComponent(Object value)
+    {
+        this(value, value == null ? null : value.getClass());
+    }
+
+    public ValueComponent(Object value, Class<?> type)
     {
         this.value = value;
+        this.type = type;
     }
 
     @Override
@@ -21,6 +28,6 @@ public class ValueComponent implements Component
     @Override
     public Class<?> getType()
     {
-        return value == null ? null : value.getClass();
+        return type;
     }
 }
@@ -0,0 +1,57 @@
+package byx.container.exception;
+
+import java.util.function.Supplier;
+
+/**
+ * ByxContainer异常基类
+ */
+public class ByxContainerException extends RuntimeException
+{
+    private Supplier<String> messageSupplier;
+    private String message;
+
+    public ByxContainerException(String msg)
+    {
+        super(msg);
+        this.message = msg;
+    }
+
+    public ByxContainerException(String msg, Exception e)
+    {
+        super(msg, e);
+        this.message = msg;
+    }
+
+    /**
+     * 异常消息在第一次调用getMessage时才生成
+     * @param msg 异常消息的生成函数
+     * @param e 原因
+     */
+    public ByxContainerException(Supplier<String> msg, Throwable e)
+    {
+        super(null, e);
+        this.messageSupplier = msg;
+    }
+
+    /**
+     * 不记录调用栈的异常，可预先创建并重复抛出
+     * @param msg 异常消息
+     * @param writableStackTrace 是否记录调用栈
+     */
+    protected ByxContainerException(String msg, boolean writableStackTrace)
+    {
+        super(msg, null, false, writableStackTrace);
+        this.message = msg;
+    }
+
+    @Override
+    public String getMessage()
+    {
+        if (messageSupplier != null)
+        {
+            message = messageSupplier.get();
+            messageSupplier = null;
+        }
+        return message;
+    }
+}
@@ -0,0 +1,12 @@
+package byx.container.exception;
+
+/**
+ * 反射查找失败，不记录调用栈，同一个实例会被缓存并重复抛出
+ */
+public class LookupFailedException extends ByxContainerException
+{
+    public LookupFailedException(String msg)
+    {
+        super(msg, false);
+    }
+}
@@ -70,6 +70,42 @@ public abstract class Message
                 id);
     }
 
+    /**
+     * 组件键不属于当前容器
+     */
+    public static String foreignComponentKey(String id)
+    {
+        return String.format("Component key of \"%s\" does not belong to this container.",
+                id);
+    }
+
+    /**
+     * 延迟组件的类型不是接口
+     */
+    public static String lazyTypeNotInterface(Class<?> type)
+    {
+        return String.format("Lazy component requires an interface type, but got \"%s\".",
+                type == null ? null : type.getCanonicalName());
+    }
+
+    /**
+     * 无效的对象池容量
+     */
+    public static String invalidPoolCapacity(int capacity)
+    {
+        return String.format("Pool capacity must be positive, but got %d.",
+                capacity);
+    }
+
+    /**
+     * 无效的集合类型
+     */
+    public static String invalidCollectionType(Class<?> type)
+    {
+        return String.format("\"%s\" is not a collection type that can be instantiated.",
+                type.getCanonicalName());
+    }
+
     /**
      * 无效的类名
      */
@@ -124,6 +160,15 @@ public abstract class Message
                 type.getCanonicalName());
     }
 
+    /**
+     * 找不到指定类型和限定符的组件
+     */
+    public static String componentNotFoundWithQualifier(Class<?> type, String qualifier)
+    {
+        return String.format("Cannot find component with type \"%s\" and qualifier \"%s\".",
+                type.getCanonicalName(), qualifier);
+    }
+
     /**
      * 存在多个指定类型的组件
      */
@@ -132,4 +177,85 @@ public abstract class Message
         return String.format("There is more than one component with type \"%s\".",
                 type.getCanonicalName());
     }
+
+    /**
+     * 找不到导入的配置文件
+     */
+    public static String importNotFound(String location)
+    {
+        return String.format("Cannot find imported config \"%s\".",
+                location);
+    }
+
+    /**
+     * 配置文件循环导入
+     */
+    public static String circularImport(String location)
+    {
+        return String.format("Circular import of config \"%s\".",
+                location);
+    }
+
+    /**
+     * 找不到可注入的构造函数
+     */
+    public static String injectableConstructorNotFound(Class<?> type)
+    {
+        return String.format("Cannot determine the constructor of \"%s\": annotate exactly one with @Inject or declare exactly one public constructor.",
+                type.getCanonicalName());
+    }
+
+    /**
+     * 找不到注入字段的setter
+     */
+    public static String injectSetterNotFound(Class<?> type, String field, String setterName)
+    {
+        return String.format("Cannot find public setter \"%s\" for injected field \"%s\" of type \"%s\".",
+                setterName, field, type.getCanonicalName());
+    }
+
+    /**
+     * 工厂方法不是public静态方法
+     */
+    public static String factoryNotPublicStatic(Class<?> type, String methodName)
+    {
+        return String.format("Factory method \"%s\" of type \"%s\" must be public and static.",
+                methodName, type.getCanonicalName());
+    }
+
+    /**
+     * 组件索引读取失败
+     */
+    public static String componentIndexLoadFailed(String location)
+    {
+        return String.format("Cannot load component index \"%s\".",
+                location);
+    }
+
+    /**
+     * 快照中的对象不可序列化
+     */
+    public static String snapshotNotSerializable(String id, Class<?> type)
+    {
+        return String.format("Cannot snapshot component \"%s\": type \"%s\" is not serializable.",
+                id, type.getCanonicalName());
+    }
+
+    /**
+     * 快照组件依赖其他组件
+     */
+    public static String snapshotNotSelfContained(String id)
+    {
+        return String.format("Cannot snapshot component \"%s\": it references other components or has a post processor.",
+                id);
+    }
+
+    /**
+     * 快照保存失败
+     */
+    public static String snapshotSaveFailed(String location)
+    {
+        return String.format("Cannot save snapshot \"%s\".",
+                location);
+    }
 }
@@ -0,0 +1,316 @@
+package byx.container.factory.json;
+
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+import byx.container.util.HashUtils;
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.parser.Feature;
+
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static byx.container.factory.json.ReservedKey.RESERVED_IMPORT;
+
+/**
+ * 加载配置文件及其导入的配置文件
+ * 同一配置文件导入的多个文件并行加载；解析结果按文件内容的哈希值缓存，内容相同的文件在整个JVM中只解析一次
+ */
+final class ConfigLoader
+{
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String FILE_PREFIX = "file:";
+
+    private static final Map<String, SoftReference<JsonElement>> parseCache = new ConcurrentHashMap<>();
+
+    private ConfigLoader() {}
+
+    /**
+     * 加载根配置及其直接或间接导入的所有配置
+     * @param source 根配置的内容
+     * @param baseDir 根配置所在目录，用于解析相对路径，可以为null
+     * @return 所有配置文件，被导入的文件排在导入它的文件之前，每个文件只出现一次
+     */
+    static List<JsonElement> load(Source source, Path baseDir)
+    {
+        Document root = new Document(null, parse(source), baseDir, null);
+        // 导入的文件在ForkJoinPool的工作线程中读取，工作线程的上下文类加载器不一定是调用者的，因此在这里确定
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) loader = ConfigLoader.class.getClassLoader();
+        Map<String, JsonElement> res = new LinkedHashMap<>();
+        flatten(ForkJoinPool.commonPool().invoke(new LoadTask(root, Collections.emptyList(), loader)), res);
+        return new ArrayList<>(res.values());
+    }
+
+    /**
+     * 按依赖顺序展开导入树，重复导入的文件只保留第一次出现的位置
+     */
+    private static void flatten(LoadedDocument doc, Map<String, JsonElement> res)
+    {
+        for (LoadedDocument child : doc.imports)
+        {
+            flatten(child, res);
+        }
+        String id = doc.document.location == null ? "" : doc.document.location;
+        res.putIfAbsent(id, doc.document.element);
+    }
+
+    /**
+     * 解码配置文件，并计算原始字节的哈希值，之后每次解析都按该哈希值查找缓存
+     */
+    static Source read(ByteBuffer bytes) throws CharacterCodingException
+    {
+        return new Source(decode(bytes), hash(bytes));
+    }
+
+    /**
+     * 解析已解码的Json，结果按读取时计算的哈希值缓存
+     */
+    private static JsonElement parse(Source source)
+    {
+        JsonElement element = getCached(source.hash);
+        if (element == null)
+        {
+            element = new JsonElementAdapterForFastjson(JSON.parse(source.json, Feature.OrderedField));
+            parseCache.put(source.hash, new SoftReference<>(element));
+        }
+        return element;
+    }
+
+    /**
+     * 解码并解析Json，结果按内容哈希缓存，命中缓存时不解码
+     */
+    private static JsonElement parse(byte[] bytes) throws CharacterCodingException
+    {
+        String hash = hash(ByteBuffer.wrap(bytes));
+        JsonElement element = getCached(hash);
+        if (element == null)
+        {
+            element = new JsonElementAdapterForFastjson(JSON.parse(decode(ByteBuffer.wrap(bytes)), Feature.OrderedField));
+            parseCache.put(hash, new SoftReference<>(element));
+        }
+        return element;
+    }
+
+    private static JsonElement getCached(String hash)
+    {
+        SoftReference<JsonElement> ref = parseCache.get(hash);
+        return ref == null ? null : ref.get();
+    }
+
+    /**
+     * 按UTF-8解码，跳过开头的BOM，遇到非法字节序列时抛出异常
+     */
+    static String decode(ByteBuffer bytes) throws CharacterCodingException
+    {
+        ByteBuffer b = bytes.duplicate();
+        if (b.remaining() >= 3 && b.get(b.position()) == (byte) 0xEF
+                && b.get(b.position() + 1) == (byte) 0xBB && b.get(b.position() + 2) == (byte) 0xBF)
+        {
+            b.position(b.position() + 3);
+        }
+        return StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(b)
+                .toString();
+    }
+
+    private static String hash(ByteBuffer bytes)
+    {
+        return HashUtils.sha256(bytes) + ':' + bytes.remaining();
+    }
+
+    /**
+     * 获取配置中声明的导入位置
+     */
+    private static List<String> getImports(JsonElement element)
+    {
+        List<String> res = new ArrayList<>();
+        if (!element.isObject() || !element.containsKey(RESERVED_IMPORT)) return res;
+        JsonElement imports = element.getElement(RESERVED_IMPORT);
+        if (imports.isArray())
+        {
+            for (int i = 0; i < imports.getLength(); ++i)
+            {
+                res.add(imports.getElement(i).getString());
+            }
+        }
+        else
+        {
+            res.add(imports.getString());
+        }
+        return res;
+    }
+
+    /**
+     * 读取导入的配置文件
+     * 以classpath:开头的位置从类路径读取，以file:开头的位置从文件系统读取，
+     * 没有前缀时先在类路径中查找，找不到再从文件系统读取。相对位置先相对于导入它的文件所在的目录查找。
+     */
+    private static Document read(String location, Document importer, ClassLoader loader)
+    {
+        try
+        {
+            if (!location.startsWith(FILE_PREFIX))
+            {
+                boolean explicit = location.startsWith(CLASSPATH_PREFIX);
+                String name = explicit ? location.substring(CLASSPATH_PREFIX.length()) : location;
+                List<String> names = new ArrayList<>();
+                if (importer.resourceDir != null) names.add(importer.resourceDir + name);
+                names.add(name);
+                for (String n : names)
+                {
+                    try (InputStream in = loader.getResourceAsStream(n))
+                    {
+                        if (in != null)
+                        {
+                            int slash = n.lastIndexOf('/');
+                            return new Document(CLASSPATH_PREFIX + n, parse(in.readAllBytes()), null, n.substring(0, slash + 1));
+                        }
+                    }
+                }
+                if (explicit)
+                    throw new ByxContainerException(Message.importNotFound(location));
+            }
+
+            String name = location.startsWith(FILE_PREFIX) ? location.substring(FILE_PREFIX.length()) : location;
+            Path path = importer.baseDir == null ? Paths.get(name) : importer.baseDir.resolve(name);
+            path = path.toAbsolutePath().normalize();
+            if (!Files.isRegularFile(path))
+                throw new ByxContainerException(Message.importNotFound(location));
+            return new Document(FILE_PREFIX + path, parse(Files.readAllBytes(path)), path.getParent(), null);
+        }
+        catch (ByxContainerException e)
+        {
+            throw e;
+        }
+        catch (Exception e)
+        {
+            throw new ByxContainerException(Message.importNotFound(location), e);
+        }
+    }
+
+    /**
+     * 已读取的配置文件：解码后的内容和原始字节的哈希值
+     */
+    static final class Source
+    {
+        private final String json;
+        private final String hash;
+
+        private Source(String json, String hash)
+        {
+            this.json = json;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * 一个配置文件：位置、解析结果，以及所在的文件系统目录或类路径目录
+     */
+    private static final class Document
+    {
+        private final String location;
+        private final JsonElement element;
+        private final Path baseDir;
+        private final String resourceDir;
+
+        private Document(String location, JsonElement element, Path baseDir, String resourceDir)
+        {
+            this.location = location;
+            this.element = element;
+            this.baseDir = baseDir;
+            this.resourceDir = resourceDir;
+        }
+    }
+
+    /**
+     * 已加载的配置文件及其导入的文件
+     */
+    private static final class LoadedDocument
+    {
+        private final Document document;
+        private final List<LoadedDocument> imports;
+
+        private LoadedDocument(Document document, List<LoadedDocument> imports)
+        {
+            this.document = document;
+            this.imports = imports;
+        }
+    }
+
+    /**
+     * 并行加载一个配置文件导入的所有文件
+     */
+    private static final class LoadTask extends RecursiveTask<LoadedDocument>
+    {
+        private final Document document;
+        private final String location;
+        private final Document importer;
+        private final List<String> ancestors;
+        private final ClassLoader loader;
+
+        /**
+         * 加载已读取的配置文件导入的文件
+         */
+        private LoadTask(Document document, List<String> ancestors, ClassLoader loader)
+        {
+            this.document = document;
+            this.location = null;
+            this.importer = null;
+            this.ancestors = ancestors;
+            this.loader = loader;
+        }
+
+        /**
+         * 读取指定位置的配置文件，再加载它导入的文件
+         */
+        private LoadTask(String location, Document importer, List<String> ancestors, ClassLoader loader)
+        {
+            this.document = null;
+            this.location = location;
+            this.importer = importer;
+            this.ancestors = ancestors;
+            this.loader = loader;
+        }
+
+        @Override
+        protected LoadedDocument compute()
+        {
+            Document doc = document != null ? document : read(location, importer, loader);
+            if (doc.location != null && ancestors.contains(doc.location))
+                throw new ByxContainerException(Message.circularImport(doc.location));
+
+            List<String> path = new ArrayList<>(ancestors);
+            if (doc.location != null) path.add(doc.location);
+            List<LoadTask> tasks = new ArrayList<>();
+            for (String imp : getImports(doc.element))
+            {
+                tasks.add(new LoadTask(imp, doc, path, loader));
+            }
+            invokeAll(tasks);
+
+            List<LoadedDocument> imports = new ArrayList<>(tasks.size());
+            for (LoadTask t : tasks)
+            {
+                imports.add(t.join());
+            }
+            return new LoadedDocument(doc, imports);
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package byx.container.factory.json;
+
+import byx.container.ByxContainer;
+import byx.container.Container;
+import byx.container.component.Component;
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+import byx.container.factory.ContainerFactory;
+import byx.container.factory.json.parser.Parser;
+import byx.container.factory.json.parser.ParserContext;
+import byx.container.jfr.ContainerCreateEvent;
+import byx.container.profiler.StartupProfiler;
+import byx.container.snapshot.SingletonSnapshot;
+import byx.container.util.HashUtils;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static byx.container.factory.json.ReservedKey.*;
+
+/**
+ * 从Json格式的配置文件创建容器
+ */
+public class JsonContainerFactory implements ContainerFactory
+{
+    private final ConfigLoader.Source source;
+    private final Path baseDir;
+    private final StartupProfiler profiler;
+    private boolean lazyParsing;
+    private NativeImageMetadata metadata;
+    private SingletonSnapshot snapshot;
+
+    /**
+     * 从文件流创建JsonContainerFactory，文件内容按UTF-8解码
+     * @param inputStream 文件流
+     */
+    public JsonContainerFactory(InputStream inputStream)
+    {
+        this(inputStream, null);
+    }
+
+    /**
+     * 从文件流创建JsonContainerFactory，并记录启动各阶段的耗时
+     * @param inputStream 文件流
+     * @param profiler 启动性能分析器，为null时不记录
+     */
+    public JsonContainerFactory(InputStream inputStream, StartupProfiler profiler)
+    {
+        if (inputStream == null)
+            throw new ByxContainerException(Message.parameterNotNull("inputStream"));
+        long start = System.nanoTime();
+        this.source = readJsonFile(inputStream);
+        this.baseDir = null;
+        this.profiler = profiler;
+        if (profiler != null) profiler.phase(StartupProfiler.PHASE_READ, start);
+    }
+
+    /**
+     * 从文件创建JsonContainerFactory，文件内容按UTF-8解码
+     * 文件通过内存映射读取，不经过流的中间缓冲；配置中导入的相对路径相对于该文件所在目录
+     * @param path 文件路径
+     */
+    public JsonContainerFactory(Path path)
+    {
+        this(path, null);
+    }
+
+    /**
+     * 从文件创建JsonContainerFactory，并记录启动各阶段的耗时
+     * @param path 文件路径
+     * @param profiler 启动性能分析器，为null时不记录
+     */
+    public JsonContainerFactory(Path path, StartupProfiler profiler)
+    {
+        if (path == null)
+            throw new ByxContainerException(Message.parameterNotNull("path"));
+        long start = System.nanoTime();
+        this.source = readJsonFile(path);
+        this.baseDir = path.toAbsolutePath().getParent();
+        this.profiler = profiler;
+        if (profiler != null) profiler.phase(StartupProfiler.PHASE_READ, start);
+    }
+
+    /**
+     * 读取json文件
+     */
+    private static ConfigLoader.Source readJsonFile(InputStream inputStream)
+    {
+        try (InputStream in = inputStream)
+        {
+            return ConfigLoader.read(ByteBuffer.wrap(in.readAllBytes()));
+        }
+        catch (Exception e)
+        {
+            throw new ByxContainerException("Error occurs when reading json file.", e);
+        }
+    }
+
+    /**
+     * 通过内存映射读取json文件，映射的内容直接用于解码和计算哈希值
+     */
+    private static ConfigLoader.Source readJsonFile(Path path)
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            return ConfigLoader.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+        catch (Exception e)
+        {
+            throw new ByxContainerException("Error occurs when reading json file.", e);
+        }
+    }
+
+    /**
+     * 解析容器
+     * 被导入的配置先于导入它的配置处理，同id的组件和同名的类型别名以后处理的为准
+     */
+    private Container parseContainer(Container container)
+    {
+        ContainerCreateEvent event = new ContainerCreateEvent();
+        event.begin();
+        // 创建失败时也提交事件，记录失败前已注册的组件数
+        int count = 0;
+        boolean succeeded = false;
+        try
+        {
+            List<JsonElement> documents = load();
+            // 处理typeAlias
+            Map<String, String> typeAlias = new LinkedHashMap<>();
+            Map<String, JsonElement> definitions = new LinkedHashMap<>();
+            for (int i = 0; i < documents.size(); ++i)
+            {
+                JsonElement element = documents.get(i);
+                if (element.containsKey(RESERVED_TYPE_ALIAS))
+                {
+                    JsonElement typeAliasElem = element.getElement(RESERVED_TYPE_ALIAS);
+                    for (String alias : typeAliasElem.keySet())
+                    {
+                        typeAlias.put(alias, typeAliasElem.getElement(alias).getString());
+                    }
+                }
+                // 被导入的配置可以只包含typeAlias，根配置必须包含components
+                if (element.containsKey(RESERVED_COMPONENTS) || i == documents.size() - 1)
+                {
+                    JsonElement components = element.getElement(RESERVED_COMPONENTS);
+                    for (String key : components.keySet())
+                    {
+                        definitions.put(key, components.getElement(key));
+                    }
+                }
+            }
+
+            if (snapshot != null)
+                snapshot.load(fingerprint(documents));
+            if (profiler != null && container instanceof ByxContainer)
+                ((ByxContainer) container).setProfiler(profiler);
+            // 按定义顺序预先分配组件键，使槽位顺序与配置文件一致
+            for (String key : definitions.keySet())
+            {
+                container.getKey(key);
+            }
+            for (Map.Entry<String, JsonElement> e : definitions.entrySet())
+            {
+                // 收集元数据时需要解析全部组件定义
+                Component c = lazyParsing && metadata == null
+                        ? new LazyParsedComponent(e.getKey(), e.getValue(), container, typeAlias)
+                        : parseComponent(e.getKey(), e.getValue(), container, typeAlias);
+                if (snapshot != null && isSnapshot(e.getValue()))
+                    c = snapshot.wrap(e.getKey(), c);
+                container.addComponent(e.getKey(), c);
+                ++count;
+            }
+            succeeded = true;
+            return container;
+        }
+        finally
+        {
+            event.end(getClass(), count, succeeded);
+        }
+    }
+
+    /**
+     * 解析一个组件定义
+     */
+    private Component parseComponent(String id, JsonElement element, Container container, Map<String, String> typeAlias)
+    {
+        long start = System.nanoTime();
+        ParserContext context = new ParserContext(container, new ArrayList<>(), typeAlias, profiler, metadata, id);
+        Component c = Parser.componentParser.parse(element, context);
+        // 从快照恢复的对象不经过组件的创建过程，注入的其他组件会是反序列化的副本，后置处理器也不会执行
+        if (isSnapshot(element) && !context.isSnapshotable())
+            throw new ByxContainerException(Message.snapshotNotSelfContained(id));
+        if (profiler != null) profiler.componentParsed(id, start);
+        return c;
+    }
+
+    /**
+     * 判断组件定义是否设置了snapshot
+     */
+    private static boolean isSnapshot(JsonElement element)
+    {
+        return element.isObject() && element.containsKey(RESERVED_SNAPSHOT)
+                && element.getElement(RESERVED_SNAPSHOT).getBoolean();
+    }
+
+    /**
+     * 设置是否延迟解析组件定义
+     * 启用后创建容器时只保留每个组件的Json定义，在第一次使用该组件时才解析，配置错误也推迟到那时才报告。
+     * 按类型获取组件需要知道所有组件的类型，会解析全部组件定义。
+     * @param lazyParsing 是否延迟解析
+     */
+    public void setLazyParsing(boolean lazyParsing)
+    {
+        this.lazyParsing = lazyParsing;
+    }
+
+    /**
+     * 设置单例快照，配置中snapshot为true的组件创建的对象可以保存到快照，
+     * 之后创建容器时如果所有配置文件的内容都没有变化，直接从快照恢复对象
+     * @param snapshot 单例快照，为null时不使用快照
+     */
+    public void setSnapshot(SingletonSnapshot snapshot)
+    {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * 计算配置指纹，包含根配置及其导入的所有配置
+     */
+    private static String fingerprint(List<JsonElement> documents)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (JsonElement document : documents)
+        {
+            sb.append(document.getJsonString()).append('\n');
+        }
+        return HashUtils.sha256(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 设置解析时收集native-image元数据，为null时不收集
+     */
+    void setMetadata(NativeImageMetadata metadata)
+    {
+        this.metadata = metadata;
+    }
+
+    @Override
+    public Container create()
+    {
+        return parseContainer(new ByxContainer());
+    }
+
+    /**
+     * 创建子容器，配置文件中的组件覆盖父容器中的同id组件，其余组件从父容器获取
+     * @param parent 父容器
+     * @return 子容器
+     */
+    public Container create(Container parent)
+    {
+        if (parent == null)
+            throw new ByxContainerException(Message.parameterNotNull("parent"));
+        return parseContainer(parent.createChild());
+    }
+
+    /**
+     * 解析配置文件及其导入的配置文件
+     */
+    private List<JsonElement> load()
+    {
+        long start = System.nanoTime();
+        List<JsonElement> documents = ConfigLoader.load(source, baseDir);
+        if (profiler != null) profiler.phase(StartupProfiler.PHASE_PARSE, start);
+        return documents;
+    }
+
+    /**
+     * 延迟解析的组件：保留Json定义，第一次使用时解析
+     */
+    private class LazyParsedComponent implements Component
+    {
+        private final String id;
+        private final Container container;
+        private final Map<String, String> typeAlias;
+        private JsonElement element;
+        private volatile Component component;
+
+        private LazyParsedComponent(String id, JsonElement element, Container container, Map<String, String> typeAlias)
+        {
+            this.id = id;
+            this.element = element;
+            this.container = container;
+            this.typeAlias = typeAlias;
+        }
+
+        private Component get()
+        {
+            Component c = component;
+            if (c == null)
+            {
+                synchronized (this)
+                {
+                    c = component;
+                    if (c == null)
+                    {
+                        c = parseComponent(id, element, container, typeAlias);
+                        component = c;
+                        element = null;
+                    }
+                }
+            }
+            return c;
+        }
+
+        @Override
+        public Object create()
+        {
+            return get().create();
+        }
+
+        @Override
+        public Class<?> getType()
+        {
+            return get().getType();
+        }
+
+        @Override
+        public void release(Object obj)
+        {
+            get().release(obj);
+        }
+
+        @Override
+        public Set<String> getQualifiers()
+        {
+            return get().getQualifiers();
+        }
+
+        @Override
+        public boolean isPrimary()
+        {
+            return get().isPrimary();
+        }
+
+        @Override
+        public int getPriority()
+        {
+            return get().getPriority();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package byx.container.factory.json;
 
+import java.math.BigDecimal;
 import java.util.Set;
 
 /**
@@ -8,6 +9,7 @@ import java.util.Set;
 public interface JsonElement
 {
     boolean isInteger();
+    boolean isLong();
     boolean isDouble();
     boolean isString();
     boolean isBoolean();
@@ -16,6 +18,8 @@ public interface JsonElement
     boolean isObject();
 
     int getInteger();
+    long getLong();
+    BigDecimal getDecimal();
     double getDouble();
     String getString();
     boolean getBoolean();
@@ -30,6 +34,6 @@ public interface JsonElement
 
     default boolean isPrimitive()
     {
-        return isInteger() || isDouble() || isString() || isBoolean() || isNull();
+        return isInteger() || isLong() || isDouble() || isString() || isBoolean() || isNull();
     }
 }
@@ -27,6 +27,12 @@ public class JsonElementAdapterForFastjson implements JsonElement
         return obj instanceof Integer;
     }
 
+    @Override
+    public boolean isLong()
+    {
+        return obj instanceof Long;
+    }
+
     @Override
     public boolean isDouble()
     {
@@ -71,6 +77,33 @@ public class JsonElementAdapterForFastjson implements JsonElement
         return (int) obj;
     }
 
+    @Override
+    public long getLong()
+    {
+        if (!isInteger() && !isLong())
+            throw new ByxContainerException(Message.incorrectJsonElementType(getJsonString(), "long"));
+        return ((Number) obj).longValue();
+    }
+
+    @Override
+    public BigDecimal getDecimal()
+    {
+        if (isDouble()) return (BigDecimal) obj;
+        if (isInteger() || isLong()) return BigDecimal.valueOf(((Number) obj).longValue());
+        if (isString())
+        {
+            try
+            {
+                return new BigDecimal((String) obj);
+            }
+            catch (NumberFormatException e)
+            {
+                throw new ByxContainerException(Message.incorrectJsonElementType(getJsonString(), "decimal"), e);
+            }
+        }
+        throw new ByxContainerException(Message.incorrectJsonElementType(getJsonString(), "decimal"));
+    }
+
     @Override
     public double getDouble()
     {
@@ -0,0 +1,300 @@
+package byx.container.factory.json;
+
+import byx.container.component.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * GraalVM native-image可达性元数据：解析配置文件时记录通过反射访问的类、构造函数、工厂方法、
+ * setter和代理接口，生成reflect-config.json和proxy-config.json。
+ * 实例工厂、属性和延迟组件的类型在所有组件注册后才能确定，因此在resolve时再记录
+ */
+public class NativeImageMetadata
+{
+    /**
+     * 类名 -> 反射配置
+     */
+    private final Map<String, TypeEntry> types = new TreeMap<>();
+    private final Set<String> proxies = new TreeSet<>();
+    private final List<Runnable> deferred = new ArrayList<>();
+    private final List<String> unresolved = new ArrayList<>();
+
+    /**
+     * 解析配置文件并收集元数据
+     * @param factory 容器工厂
+     * @return 元数据
+     */
+    public static NativeImageMetadata of(JsonContainerFactory factory)
+    {
+        NativeImageMetadata metadata = new NativeImageMetadata();
+        metadata.collect(factory);
+        return metadata;
+    }
+
+    /**
+     * 解析配置文件，将其中引用的类和成员合并到当前元数据
+     * @param factory 容器工厂
+     */
+    public void collect(JsonContainerFactory factory)
+    {
+        factory.setMetadata(this);
+        try
+        {
+            factory.create();
+        }
+        finally
+        {
+            factory.setMetadata(null);
+        }
+        resolve();
+    }
+
+    /**
+     * 记录通过Class.forName加载的类
+     */
+    public void addClass(Class<?> type)
+    {
+        entry(type);
+    }
+
+    /**
+     * 记录构造函数，参数在创建时才确定，因此记录所有public构造函数
+     */
+    public void addConstructors(Class<?> type)
+    {
+        TypeEntry entry = entry(type);
+        entry.queryConstructors = true;
+        for (Constructor<?> c : type.getConstructors())
+        {
+            entry.members.add(signature("<init>", c));
+        }
+    }
+
+    /**
+     * 记录方法，参数在调用时才确定，因此记录所有同名的public方法
+     */
+    public void addMethods(Class<?> type, String name)
+    {
+        entry(type).queryMethods = true;
+        for (Method m : type.getMethods())
+        {
+            if (m.getName().equals(name))
+            {
+                entry(m.getDeclaringClass()).members.add(signature(name, m));
+            }
+        }
+    }
+
+    /**
+     * 记录在组件创建的对象上调用的方法
+     */
+    public void addMethods(Component instance, String name)
+    {
+        defer(instance, "method \"" + name + "\"", type ->
+        {
+            // 反射调用按对象的实际类型查找方法，接口和抽象类的实现类需要另外配置
+            if (type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+                unresolved.add("method \"" + name + "\" of implementations of " + type.getTypeName());
+            addMethods(type, name);
+        });
+    }
+
+    /**
+     * 记录组件创建的对象的属性，PropertyDescriptor需要读写两个方法
+     */
+    public void addProperty(Component bean, String property)
+    {
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        defer(bean, "property \"" + property + "\"", type ->
+        {
+            addMethods(type, "get" + suffix);
+            addMethods(type, "is" + suffix);
+            addMethods(type, "set" + suffix);
+        });
+    }
+
+    /**
+     * 记录延迟组件的代理接口
+     */
+    public void addProxy(Class<?> type)
+    {
+        proxies.add(type.getName());
+    }
+
+    /**
+     * 记录延迟组件的代理接口，接口为组件的类型
+     */
+    public void addProxy(Component component)
+    {
+        defer(component, "lazy proxy", this::addProxy);
+    }
+
+    /**
+     * 确定延迟记录的组件类型
+     */
+    public void resolve()
+    {
+        List<Runnable> pending = new ArrayList<>(deferred);
+        deferred.clear();
+        pending.forEach(Runnable::run);
+    }
+
+    /**
+     * 获取无法确定类型的记录，这些记录需要手动补充配置
+     * @return 无法确定类型的记录
+     */
+    public List<String> getUnresolved()
+    {
+        return unresolved;
+    }
+
+    /**
+     * 生成reflect-config.json
+     */
+    public String toReflectConfig()
+    {
+        StringBuilder sb = new StringBuilder("[");
+        String sep = "\n";
+        for (Map.Entry<String, TypeEntry> e : types.entrySet())
+        {
+            TypeEntry entry = e.getValue();
+            sb.append(sep).append("  {\n    \"name\": \"").append(e.getKey()).append('"');
+            if (entry.queryConstructors)
+                sb.append(",\n    \"queryAllPublicConstructors\": true");
+            if (entry.queryMethods)
+                sb.append(",\n    \"queryAllPublicMethods\": true");
+            if (!entry.members.isEmpty())
+            {
+                sb.append(",\n    \"methods\": [");
+                String memberSep = "\n";
+                for (String member : entry.members)
+                {
+                    sb.append(memberSep).append("      ").append(member);
+                    memberSep = ",\n";
+                }
+                sb.append("\n    ]");
+            }
+            sb.append("\n  }");
+            sep = ",\n";
+        }
+        return sb.append("\n]\n").toString();
+    }
+
+    /**
+     * 生成proxy-config.json
+     */
+    public String toProxyConfig()
+    {
+        StringBuilder sb = new StringBuilder("[");
+        String sep = "\n";
+        for (String proxy : proxies)
+        {
+            sb.append(sep).append("  {\"interfaces\": [\"").append(proxy).append("\"]}");
+            sep = ",\n";
+        }
+        return sb.append("\n]\n").toString();
+    }
+
+    /**
+     * 将reflect-config.json和proxy-config.json写入指定目录
+     * @param dir 输出目录，native-image会自动读取类路径中META-INF/native-image下的配置
+     */
+    public void write(Path dir) throws IOException
+    {
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("reflect-config.json"), toReflectConfig(), StandardCharsets.UTF_8);
+        Files.writeString(dir.resolve("proxy-config.json"), toProxyConfig(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 命令行入口：NativeImageMetadata 输出目录 配置文件...
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 2)
+        {
+            System.err.println("Usage: NativeImageMetadata <output dir> <config file>...");
+            System.exit(1);
+        }
+
+        NativeImageMetadata metadata = new NativeImageMetadata();
+        for (String config : Arrays.asList(args).subList(1, args.length))
+        {
+            metadata.collect(new JsonContainerFactory(Paths.get(config)));
+        }
+        metadata.write(Paths.get(args[0]));
+        for (String s : metadata.getUnresolved())
+        {
+            System.err.println("Incomplete metadata for " + s + ", add its configuration manually.");
+        }
+    }
+
+    private TypeEntry entry(Class<?> type)
+    {
+        return types.computeIfAbsent(type.getTypeName(), k -> new TypeEntry());
+    }
+
+    private void defer(Component component, String description, Consumer<Class<?>> action)
+    {
+        deferred.add(() ->
+        {
+            Class<?> type = typeOf(component);
+            if (type == null)
+            {
+                unresolved.add(description);
+                return;
+            }
+            action.accept(type);
+        });
+    }
+
+    private static Class<?> typeOf(Component component)
+    {
+        try
+        {
+            return component.getType();
+        }
+        catch (RuntimeException e)
+        {
+            return null;
+        }
+    }
+
+    private static String signature(String name, Executable e)
+    {
+        StringBuilder sb = new StringBuilder("{\"name\": \"").append(name).append("\", \"parameterTypes\": [");
+        Class<?>[] parameterTypes = e.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; ++i)
+        {
+            if (i > 0) sb.append(", ");
+            sb.append('"').append(parameterTypes[i].getTypeName()).append('"');
+        }
+        return sb.append("]}").toString();
+    }
+
+    /**
+     * 一个类的反射配置
+     */
+    private static class TypeEntry
+    {
+        private boolean queryConstructors;
+        private boolean queryMethods;
+        private final Set<String> members = new TreeSet<>();
+    }
+}
@@ -26,6 +26,23 @@ public interface ReservedKey
     String RESERVED_SINGLETON = "singleton";
     String RESERVED_CUSTOM = "custom";
     String RESERVED_TYPE_ALIAS = "typeAlias";
+    String RESERVED_IMPORT = "import";
     String RESERVED_POST_PROCESSOR = "postProcessor";
     String RESERVED_TYPE = "type";
+    String RESERVED_QUALIFIER = "qualifier";
+    String RESERVED_QUALIFIERS = "qualifiers";
+    String RESERVED_PRIMARY = "primary";
+    String RESERVED_PRIORITY = "priority";
+    String RESERVED_LAZY = "lazy";
+    String RESERVED_SUPPLIER = "supplier";
+    String RESERVED_POOL = "pool";
+    String RESERVED_CAPACITY = "capacity";
+    String RESERVED_RESET = "reset";
+    String RESERVED_COLLECTION_TYPE = "collectionType";
+    String RESERVED_IMMUTABLE = "immutable";
+    String RESERVED_LONG = "long";
+    String RESERVED_FLOAT = "float";
+    String RESERVED_DOUBLE = "double";
+    String RESERVED_DECIMAL = "decimal";
+    String RESERVED_SNAPSHOT = "snapshot";
 }
@@ -20,10 +20,14 @@ public class ComponentParser implements Parser
             {
                 processLocals(element, context);
                 Component c = parsers.get(key).parse(element, context);
+                c = processFolding(element, c);
                 c = processProperties(element, context, c);
                 c = processSetters(element, context, c);
-                c = processSingleton(element, c);
+                c = processLazy(element, context, c);
+                c = processSingleton(element, context, c);
                 c = processPostProcessor(element, context, c);
+                c = processPool(element, context, c);
+                c = processQualifiers(element, c);
                 context.popScope();
                 return c;
             }
@@ -18,6 +18,8 @@ public class ConstructorParser implements Parser
         {
             params = parseComponentList(element.getElement(RESERVED_PARAMETERS), context);
         }
-        return constructor(context.getClass(className), params);
+        Class<?> type = context.getClass(className);
+        context.record(m -> m.addConstructors(type));
+        return constructor(type, params);
     }
 }
@@ -26,6 +26,7 @@ public class CustomParser implements Parser
                 "create");*/
 
         Component customComponent = componentParser.parse(element.getElement(RESERVED_CUSTOM), context);
+        context.record(m -> m.addMethods(customComponent, "create"));
         return instanceFactory(customComponent, "create");
     }
 }
@@ -19,6 +19,7 @@ public class InstanceFactoryParser implements Parser
         {
             params = parseComponentList(element.getElement(RESERVED_PARAMETERS), context);
         }
-       return instanceFactory(instance, method, params);
+        context.record(m -> m.addMethods(instance, method));
+        return instanceFactory(instance, method, params);
     }
 }
@@ -3,6 +3,9 @@ package byx.container.factory.json.parser;
 import byx.container.component.Component;
 import byx.container.factory.json.JsonElement;
 
+import java.util.List;
+import java.util.function.IntFunction;
+
 import static byx.container.factory.json.parser.Parser.*;
 import static byx.container.factory.json.ReservedKey.*;
 import static byx.container.component.Component.*;
@@ -13,6 +16,8 @@ public class ListParser implements Parser
     public Component parse(JsonElement element, ParserContext context)
     {
         Component[] components = parseComponentList(element.getElement(RESERVED_LIST), context);
-        return list(components);
+        IntFunction<List<Object>> factory = getCollectionFactory(element, context, List.class);
+        Component c = factory == null ? list(components) : list(factory, components);
+        return processImmutable(element, context, c, "unmodifiableList");
     }
 }
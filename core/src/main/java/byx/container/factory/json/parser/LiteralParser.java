@@ -0,0 +1,23 @@
+package byx.container.factory.json.parser;
+
+import byx.container.component.Component;
+import byx.container.factory.json.JsonElement;
+
+import static byx.container.component.Component.*;
+import static byx.container.factory.json.ReservedKey.*;
+
+public class LiteralParser implements Parser
+{
+    @Override
+    public Component parse(JsonElement element, ParserContext context)
+    {
+        if (element.containsKey(RESERVED_LONG))
+            return longValue(element.getElement(RESERVED_LONG).getLong());
+        else if (element.containsKey(RESERVED_FLOAT))
+            return floatValue(element.getElement(RESERVED_FLOAT).getDecimal().floatValue());
+        else if (element.containsKey(RESERVED_DOUBLE))
+            return doubleValue(element.getElement(RESERVED_DOUBLE).getDecimal().doubleValue());
+        else
+            return value(element.getElement(RESERVED_DECIMAL).getDecimal());
+    }
+}
@@ -0,0 +1,48 @@
+package byx.container.factory.json.parser;
+
+import byx.container.component.Component;
+import byx.container.factory.json.JsonElement;
+
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static byx.container.factory.json.parser.Parser.*;
+import static byx.container.factory.json.ReservedKey.*;
+import static byx.container.component.Component.*;
+
+public class MapParser implements Parser
+{
+    @Override
+    public Component parse(JsonElement element, ParserContext context)
+    {
+        JsonElement mapElem = element.getElement(RESERVED_MAP);
+        Component[] keys;
+        Component[] values;
+        if (mapElem.isObject())
+        {
+            keys = new Component[mapElem.keySet().size()];
+            values = new Component[keys.length];
+            int i = 0;
+            for (String key : mapElem.keySet())
+            {
+                keys[i] = value(key);
+                values[i] = componentParser.parse(mapElem.getElement(key), context);
+                ++i;
+            }
+        }
+        else
+        {
+            keys = new Component[mapElem.getLength()];
+            values = new Component[keys.length];
+            for (int i = 0; i < keys.length; ++i)
+            {
+                JsonElement item = mapElem.getElement(i);
+                keys[i] = componentParser.parse(item.getElement(RESERVED_KEY), context);
+                values[i] = componentParser.parse(item.getElement(RESERVED_VALUE), context);
+            }
+        }
+        IntFunction<Map<Object, Object>> factory = getCollectionFactory(element, context, Map.class);
+        Component c = factory == null ? map(keys, values) : map(factory, keys, values);
+        return processImmutable(element, context, c, "unmodifiableMap");
+    }
+}
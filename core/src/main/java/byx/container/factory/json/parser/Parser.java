@@ -0,0 +1,319 @@
+package byx.container.factory.json.parser;
+
+import byx.container.component.Component;
+import byx.container.component.DelegateComponent;
+import byx.container.component.PostProcessComponent;
+import byx.container.component.PostProcessor;
+import byx.container.component.ValueComponent;
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+import byx.container.factory.json.JsonElement;
+import byx.container.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static byx.container.factory.json.ReservedKey.*;
+import static byx.container.component.Component.*;
+
+public interface Parser
+{
+    /**
+     * 解析组件
+     * @param element 当前Json元素
+     * @param context 上下文
+     * @return 组件
+     */
+    Component parse(JsonElement element, ParserContext context);
+
+    /**
+     * 解析组件列表
+     */
+    static Component[] parseComponentList(JsonElement element, ParserContext context)
+    {
+        List<Component> components = new ArrayList<>();
+        for (int i = 0; i < element.getLength(); ++i)
+        {
+            components.add(componentParser.parse(element.getElement(i), context));
+        }
+        return components.toArray(new Component[0]);
+    }
+
+    /**
+     * 获取集合组件的目标集合类型的工厂
+     * @return 未指定collectionType或指定为immutable时返回null
+     */
+    @SuppressWarnings("unchecked")
+    static <T> IntFunction<T> getCollectionFactory(JsonElement element, ParserContext context, Class<?> baseType)
+    {
+        if (!element.containsKey(RESERVED_COLLECTION_TYPE)) return null;
+        String typeName = element.getElement(RESERVED_COLLECTION_TYPE).getString();
+        if (RESERVED_IMMUTABLE.equals(typeName)) return null;
+        Class<?> type = context.getClass(typeName);
+        if (!baseType.isAssignableFrom(type))
+            throw new ByxContainerException(Message.invalidCollectionType(type));
+        context.record(m -> m.addConstructors(type));
+        return (IntFunction<T>) CollectionUtils.sizedFactory(type);
+    }
+
+    /**
+     * 如果collectionType指定为immutable，则将集合组件包装成不可修改的集合
+     * @param wrapMethod Collections中对应的包装方法名
+     */
+    static Component processImmutable(JsonElement element, ParserContext context, Component component, String wrapMethod)
+    {
+        if (element.containsKey(RESERVED_COLLECTION_TYPE) &&
+                RESERVED_IMMUTABLE.equals(element.getElement(RESERVED_COLLECTION_TYPE).getString()))
+        {
+            Component folded = component.fold();
+            if (folded instanceof ValueComponent) return folded;
+            context.record(m -> m.addMethods(Collections.class, wrapMethod));
+            return staticFactory(Collections.class, wrapMethod, component);
+        }
+        return component;
+    }
+
+    /**
+     * 处理局部组件
+     */
+    static void processLocals(JsonElement element, ParserContext context)
+    {
+        if (element.containsKey(RESERVED_LOCALS))
+        {
+            Map<String, Component> scope = new LinkedHashMap<>();
+            JsonElement locals = element.getElement(RESERVED_LOCALS);
+            for (String key : locals.keySet())
+            {
+                scope.put(key, new DelegateComponent());
+            }
+            context.pushScope(scope);
+            for (String key : locals.keySet())
+            {
+                DelegateComponent c = (DelegateComponent) scope.get(key);
+                c.setComponent(componentParser.parse(locals.getElement(key), context));
+            }
+        }
+        else
+        {
+            context.pushScope(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * 处理常量折叠
+     * 显式声明为非单例的组件每次都要创建新对象，指定了集合类型的组件要保持目标类型，都不进行折叠
+     */
+    static Component processFolding(JsonElement element, Component component)
+    {
+        if (element.containsKey(RESERVED_SINGLETON) && !element.getElement(RESERVED_SINGLETON).getBoolean())
+            return component;
+        if (element.containsKey(RESERVED_COLLECTION_TYPE))
+            return component;
+        return component.fold();
+    }
+
+    /**
+     * 处理属性
+     */
+    static Component processProperties(JsonElement element, ParserContext context, Component component)
+    {
+        if (element.containsKey(RESERVED_PROPERTIES))
+        {
+            JsonElement props = element.getElement(RESERVED_PROPERTIES);
+            Component bean = component;
+            for (String name : props.keySet())
+            {
+                Component value = componentParser.parse(props.getElement(name), context);
+                context.record(m -> m.addProperty(bean, name));
+                component = component.setProperty(name, value);
+            }
+        }
+        return component;
+    }
+
+    /**
+     * 处理setter方法
+     */
+    static Component processSetters(JsonElement element, ParserContext context, Component component)
+    {
+        if (element.containsKey(RESERVED_SETTERS))
+        {
+            JsonElement setters = element.getElement(RESERVED_SETTERS);
+            Component bean = component;
+            for (String setterName : setters.keySet())
+            {
+                Component[] params = parseComponentList(setters.getElement(setterName), context);
+                context.record(m -> m.addMethods(bean, setterName));
+                component = component.invokeSetter(setterName, params);
+            }
+        }
+        return component;
+    }
+
+    /**
+     * 处理延迟加载
+     */
+    static Component processLazy(JsonElement element, ParserContext context, Component component)
+    {
+        if (element.containsKey(RESERVED_LAZY))
+        {
+            JsonElement lazy = element.getElement(RESERVED_LAZY);
+            if (lazy.isString() && lazy.getString().equals(RESERVED_SUPPLIER))
+            {
+                return component.supplier();
+            }
+            if (lazy.isString())
+            {
+                Class<?> type = context.getClass(lazy.getString());
+                context.record(m -> m.addProxy(type));
+                return component.lazy(type);
+            }
+            if (lazy.getBoolean())
+            {
+                context.record(m -> m.addProxy(component));
+                return component.lazy();
+            }
+        }
+        return component;
+    }
+
+    /**
+     * 处理单例
+     */
+    static Component processSingleton(JsonElement element, ParserContext context, Component component)
+    {
+        // 池化组件默认不是单例
+        boolean singleton = !element.containsKey(RESERVED_POOL);
+        if (element.containsKey(RESERVED_SINGLETON))
+        {
+            singleton = element.getElement(RESERVED_SINGLETON).getBoolean();
+        }
+        // 常量组件本身就只有一个值，无需再包装成单例
+        if (!singleton || component instanceof ValueComponent) return component;
+        return component.singleton(context.getComponentId());
+    }
+
+    /**
+     * 处理后置处理器
+     */
+    static Component processPostProcessor(JsonElement element, ParserContext context, Component component)
+    {
+        if (element.containsKey(RESERVED_POST_PROCESSOR))
+        {
+            Component postProcessorComponent = componentParser.parse(element.getElement(RESERVED_POST_PROCESSOR), context);
+            context.markNotSnapshotable();
+            Class<?> componentClass = component.getClass();
+            context.record(m ->
+            {
+                m.addMethods(componentClass, "postProcess");
+                m.addMethods(PostProcessComponent.class, "create");
+            });
+            component = instanceFactory(
+                    instanceFactory(
+                            value(component),
+                            "postProcess",
+                            postProcessorComponent),
+                    "create");
+        }
+        return component;
+    }
+
+    /**
+     * 处理对象池
+     */
+    static Component processPool(JsonElement element, ParserContext context, Component component)
+    {
+        if (element.containsKey(RESERVED_POOL))
+        {
+            JsonElement pool = element.getElement(RESERVED_POOL);
+            if (pool.isInteger())
+                return component.pooled(pool.getInteger());
+
+            int capacity = pool.getElement(RESERVED_CAPACITY).getInteger();
+            if (pool.containsKey(RESERVED_RESET))
+            {
+                Component reset = componentParser.parse(pool.getElement(RESERVED_RESET), context);
+                return component.pooled(capacity, obj -> ((PostProcessor) reset.create()).process(obj));
+            }
+            return component.pooled(capacity);
+        }
+        return component;
+    }
+
+    /**
+     * 处理限定符和优先级
+     */
+    static Component processQualifiers(JsonElement element, Component component)
+    {
+        if (element.containsKey(RESERVED_QUALIFIERS))
+        {
+            JsonElement qualifiers = element.getElement(RESERVED_QUALIFIERS);
+            if (qualifiers.isString())
+            {
+                component = component.qualify(qualifiers.getString());
+            }
+            else
+            {
+                String[] names = new String[qualifiers.getLength()];
+                for (int i = 0; i < names.length; ++i)
+                {
+                    names[i] = qualifiers.getElement(i).getString();
+                }
+                component = component.qualify(names);
+            }
+        }
+        if (element.containsKey(RESERVED_PRIMARY) && element.getElement(RESERVED_PRIMARY).getBoolean())
+        {
+            component = component.primary();
+        }
+        if (element.containsKey(RESERVED_PRIORITY))
+        {
+            component = component.priority(element.getElement(RESERVED_PRIORITY).getInteger());
+        }
+        return component;
+    }
+
+    Parser componentParser = new ComponentParser();
+    Parser primitiveParser = new PrimitiveParser();
+    Parser listParser = new ListParser();
+    Parser setParser = new SetParser();
+    Parser mapParser = new MapParser();
+    Parser referenceParser = new ReferenceParser();
+    Parser constructorParser = new ConstructorParser();
+    Parser staticFactoryParser = new StaticFactoryParser();
+    Parser instanceFactoryParser = new InstanceFactoryParser();
+    Parser conditionParser = new ConditionParser();
+    Parser customParser = new CustomParser();
+    Parser typeMatchParser = new TypeMatchParser();
+    Parser literalParser = new LiteralParser();
+
+    /**
+     * 组件解析器注册表，注册顺序即匹配优先级：组件定义同时包含多个键时，使用排在前面的解析器。
+     * 顺序与解析器的声明顺序一致，数值字面量的解析器排在最后
+     */
+    Map<String, Parser> parsers = Collections.unmodifiableMap(registerParsers());
+
+    private static Map<String, Parser> registerParsers()
+    {
+        Map<String, Parser> parsers = new LinkedHashMap<>();
+        parsers.put(RESERVED_LIST, listParser);
+        parsers.put(RESERVED_SET, setParser);
+        parsers.put(RESERVED_MAP, mapParser);
+        parsers.put(RESERVED_REF, referenceParser);
+        parsers.put(RESERVED_CLASS, constructorParser);
+        parsers.put(RESERVED_FACTORY, staticFactoryParser);
+        parsers.put(RESERVED_INSTANCE, instanceFactoryParser);
+        parsers.put(RESERVED_IF, conditionParser);
+        parsers.put(RESERVED_CUSTOM, customParser);
+        parsers.put(RESERVED_TYPE, typeMatchParser);
+        parsers.put(RESERVED_LONG, literalParser);
+        parsers.put(RESERVED_FLOAT, literalParser);
+        parsers.put(RESERVED_DOUBLE, literalParser);
+        parsers.put(RESERVED_DECIMAL, literalParser);
+        return parsers;
+    }
+}
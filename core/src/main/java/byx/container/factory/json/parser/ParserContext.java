@@ -0,0 +1,147 @@
+package byx.container.factory.json.parser;
+
+import byx.container.Container;
+import byx.container.component.Component;
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+import byx.container.factory.json.NativeImageMetadata;
+import byx.container.profiler.StartupProfiler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 解析器上下文
+ */
+public class ParserContext
+{
+    private final Container container;
+    private final List<Map<String, Component>> scopes;
+    private final Map<String, String> typeAlias;
+    private final StartupProfiler profiler;
+    private final NativeImageMetadata metadata;
+    private final String componentId;
+    private boolean snapshotable = true;
+
+    public ParserContext(Container container, List<Map<String, Component>> scopes, Map<String, String> typeAlias)
+    {
+        this(container, scopes, typeAlias, null);
+    }
+
+    public ParserContext(Container container, List<Map<String, Component>> scopes, Map<String, String> typeAlias,
+                         StartupProfiler profiler)
+    {
+        this(container, scopes, typeAlias, profiler, null);
+    }
+
+    public ParserContext(Container container, List<Map<String, Component>> scopes, Map<String, String> typeAlias,
+                         StartupProfiler profiler, NativeImageMetadata metadata)
+    {
+        this(container, scopes, typeAlias, profiler, metadata, null);
+    }
+
+    public ParserContext(Container container, List<Map<String, Component>> scopes, Map<String, String> typeAlias,
+                         StartupProfiler profiler, NativeImageMetadata metadata, String componentId)
+    {
+        this.container = container;
+        this.scopes = scopes;
+        this.typeAlias = typeAlias;
+        this.profiler = profiler;
+        this.metadata = metadata;
+        this.componentId = componentId;
+    }
+
+    /**
+     * 获取容器
+     */
+    public Container getContainer()
+    {
+        return container;
+    }
+
+    /**
+     * 记录native-image元数据，不收集元数据时什么也不做
+     */
+    public void record(Consumer<NativeImageMetadata> action)
+    {
+        if (metadata != null) action.accept(metadata);
+    }
+
+    /**
+     * 获取正在解析的组件id，只有顶层组件定义有id，解析嵌套的组件定义时返回null
+     */
+    public String getComponentId()
+    {
+        return scopes.size() <= 1 ? componentId : null;
+    }
+
+    /**
+     * 标记正在解析的组件定义引用了容器中的其他组件或包含后置处理器，
+     * 从快照恢复的对象无法还原这些依赖和副作用
+     */
+    public void markNotSnapshotable()
+    {
+        snapshotable = false;
+    }
+
+    /**
+     * 判断已解析的组件定义能否保存到快照
+     */
+    public boolean isSnapshotable()
+    {
+        return snapshotable;
+    }
+
+    public Component resolveComponentRef(String id)
+    {
+        for (int i = scopes.size() - 1; i >= 0; --i)
+        {
+            if (scopes.get(i).containsKey(id))
+            {
+                return scopes.get(i).get(id);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 压入作用域
+     */
+    public void pushScope(Map<String, Component> scope)
+    {
+        scopes.add(scope);
+    }
+
+    /**
+     * 弹出作用域
+     */
+    public void popScope()
+    {
+        scopes.remove(scopes.size() - 1);
+    }
+
+    /**
+     * 根据全限定类名获取Class对象
+     */
+    public Class<?> getClass(String className)
+    {
+        long start = profiler == null ? 0 : System.nanoTime();
+        try
+        {
+            if (typeAlias.containsKey(className))
+                className = typeAlias.get(className);
+            Class<?> type = Class.forName(className);
+            record(m -> m.addClass(type));
+            return type;
+        }
+        catch (Exception e)
+        {
+            throw new ByxContainerException(Message.invalidClassName(className), e);
+        }
+        finally
+        {
+            if (profiler != null) profiler.phase(StartupProfiler.PHASE_CLASS_RESOLUTION, start);
+        }
+    }
+}
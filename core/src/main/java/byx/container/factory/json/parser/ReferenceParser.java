@@ -14,6 +14,7 @@ public class ReferenceParser implements Parser
         String id = element.getElement(RESERVED_REF).getString();
         Component c = context.resolveComponentRef(id);
         if (c != null) return c;
-        return reference(context.getContainer(), id);
+        context.markNotSnapshotable();
+        return reference(context.getContainer(), context.getContainer().getKey(id));
     }
 }
@@ -3,6 +3,9 @@ package byx.container.factory.json.parser;
 import byx.container.component.Component;
 import byx.container.factory.json.JsonElement;
 
+import java.util.Set;
+import java.util.function.IntFunction;
+
 import static byx.container.factory.json.parser.Parser.*;
 import static byx.container.factory.json.ReservedKey.*;
 import static byx.container.component.Component.*;
@@ -13,6 +16,8 @@ public class SetParser implements Parser
     public Component parse(JsonElement element, ParserContext context)
     {
         Component[] components = parseComponentList(element.getElement(RESERVED_SET), context);
-        return set(components);
+        IntFunction<Set<Object>> factory = getCollectionFactory(element, context, Set.class);
+        Component c = factory == null ? set(components) : set(factory, components);
+        return processImmutable(element, context, c, "unmodifiableSet");
     }
 }
@@ -19,6 +19,8 @@ public class StaticFactoryParser implements Parser
         {
             params = parseComponentList(element.getElement(RESERVED_PARAMETERS), context);
         }
-        return staticFactory(context.getClass(factory), method, params);
+        Class<?> type = context.getClass(factory);
+        context.record(m -> m.addMethods(type, method));
+        return staticFactory(type, method, params);
     }
 }
@@ -11,6 +11,12 @@ public class TypeMatchParser implements Parser
     public Component parse(JsonElement element, ParserContext context)
     {
         String typeName = element.getElement(RESERVED_TYPE).getString();
-        return type(context.getContainer(), context.getClass(typeName));
+        String qualifier = null;
+        if (element.containsKey(RESERVED_QUALIFIER))
+        {
+            qualifier = element.getElement(RESERVED_QUALIFIER).getString();
+        }
+        context.markNotSnapshotable();
+        return type(context.getContainer(), context.getClass(typeName), qualifier);
     }
 }
@@ -0,0 +1,38 @@
+package byx.container.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 从容器获取对象
+ */
+@Name("byx.container.ComponentLookup")
+@Label("Component Lookup")
+@Description("Object obtained from a container")
+@Category("ByxContainer")
+public class ComponentLookupEvent extends Event
+{
+    @Label("Component")
+    @Description("Component id, or the requested type name for lookups by type")
+    String component;
+
+    @Label("Kind")
+    @Description("How the component was looked up: id, key or type")
+    String kind;
+
+    /**
+     * 事件启用时填充字段并提交
+     */
+    public void end(String component, String kind)
+    {
+        if (shouldCommit())
+        {
+            this.component = component;
+            this.kind = kind;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package byx.container.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 从配置文件创建容器，创建失败时也会提交
+ */
+@Name("byx.container.ContainerCreate")
+@Label("Container Create")
+@Description("Container created by a container factory")
+@Category("ByxContainer")
+public class ContainerCreateEvent extends Event
+{
+    @Label("Factory")
+    Class<?> factory;
+
+    @Label("Component Count")
+    @Description("Number of components registered before the container was created or creation failed")
+    int componentCount;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * 事件启用时填充字段并提交
+     */
+    public void end(Class<?> factory, int componentCount, boolean succeeded)
+    {
+        if (shouldCommit())
+        {
+            this.factory = factory;
+            this.componentCount = componentCount;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package byx.container.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 通过反射调用构造函数或方法
+ */
+@Name("byx.container.ReflectiveInvocation")
+@Label("Reflective Invocation")
+@Description("Constructor or method invoked through reflection, including overload resolution")
+@Category("ByxContainer")
+public class ReflectiveInvocationEvent extends Event
+{
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    @Label("Method")
+    @Description("Method name, or <init> for constructors")
+    String method;
+
+    @Label("Kind")
+    @Description("constructor, static or instance")
+    String kind;
+
+    /**
+     * 事件启用时填充字段并提交
+     */
+    public void end(Class<?> targetClass, String method, String kind)
+    {
+        if (shouldCommit())
+        {
+            this.targetClass = targetClass;
+            this.method = method;
+            this.kind = kind;
+            commit();
+        }
+    }
+}
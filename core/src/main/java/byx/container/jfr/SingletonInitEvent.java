@@ -0,0 +1,37 @@
+package byx.container.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 单例组件第一次创建对象
+ */
+@Name("byx.container.SingletonInit")
+@Label("Singleton Initialization")
+@Description("First creation of a singleton component's object")
+@Category("ByxContainer")
+public class SingletonInitEvent extends Event
+{
+    @Label("Component")
+    @Description("Component id, or null for singletons without an id such as nested definitions")
+    String component;
+
+    @Label("Component Type")
+    Class<?> componentType;
+
+    /**
+     * 事件启用时填充字段并提交
+     */
+    public void end(String component, Class<?> componentType)
+    {
+        if (shouldCommit())
+        {
+            this.component = component;
+            this.componentType = componentType;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package byx.container.profiler;
+
+import byx.container.component.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 启动性能分析器：记录容器启动各阶段的耗时，以及每个组件的解析耗时和第一次创建的耗时。
+ * 默认不启用，需要分别传给JsonContainerFactory和ByxContainer。
+ */
+public class StartupProfiler
+{
+    public static final String PHASE_READ = "read";
+    public static final String PHASE_PARSE = "parse";
+    public static final String PHASE_CLASS_RESOLUTION = "classResolution";
+    public static final String PHASE_COMPONENT_PARSE = "componentParse";
+    public static final String PHASE_CREATE = "create";
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, ComponentTiming> components = new LinkedHashMap<>();
+    private final Map<String, Long> stacks = new LinkedHashMap<>();
+    private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * 记录一个阶段的耗时，同名阶段的耗时累加
+     * 类的加载发生在组件解析过程中，其耗时已包含在组件解析阶段内，不单独出现在折叠调用栈中
+     * @param phase 阶段名称
+     * @param startNanos 阶段开始时System.nanoTime()的值
+     */
+    public synchronized void phase(String phase, long startNanos)
+    {
+        long nanos = System.nanoTime() - startNanos;
+        phases.merge(phase, nanos, Long::sum);
+        if (!PHASE_CLASS_RESOLUTION.equals(phase) && !PHASE_COMPONENT_PARSE.equals(phase) && !PHASE_CREATE.equals(phase))
+            stacks.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * 记录一个组件定义的解析耗时
+     * @param id 组件id
+     * @param startNanos 解析开始时System.nanoTime()的值
+     */
+    public synchronized void componentParsed(String id, long startNanos)
+    {
+        long nanos = System.nanoTime() - startNanos;
+        timing(id).parseNanos += nanos;
+        phases.merge(PHASE_COMPONENT_PARSE, nanos, Long::sum);
+        stacks.merge(PHASE_COMPONENT_PARSE + ";" + id, nanos, Long::sum);
+    }
+
+    /**
+     * 包装组件，记录该组件第一次创建对象的耗时
+     * 在第一次创建的过程中创建的其它组件会作为子帧出现在调用栈中
+     * @param id 组件id
+     * @param component 组件
+     * @return 包装后的组件
+     */
+    public Component wrap(String id, Component component)
+    {
+        return new ProfiledComponent(id, component);
+    }
+
+    /**
+     * 获取各阶段的总耗时，按第一次记录的顺序排列
+     * @return 阶段名称到纳秒数的映射
+     */
+    public synchronized Map<String, Long> getPhaseNanos()
+    {
+        return new LinkedHashMap<>(phases);
+    }
+
+    /**
+     * 获取解析与第一次创建总耗时最长的n个组件
+     * @param n 组件个数
+     * @return 组件耗时，按总耗时从大到小排列
+     */
+    public synchronized List<ComponentTiming> getSlowestComponents(int n)
+    {
+        List<ComponentTiming> res = new ArrayList<>(components.values());
+        res.sort(Comparator.comparingLong(ComponentTiming::getTotalNanos).reversed());
+        return new ArrayList<>(res.subList(0, Math.min(n, res.size())));
+    }
+
+    /**
+     * 导出为火焰图工具（如flamegraph.pl）可读取的折叠调用栈格式
+     * 每行为分号分隔的调用栈和该帧自身的耗时（微秒）
+     * @return 折叠调用栈文本
+     */
+    public synchronized String toCollapsedStacks()
+    {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> e : stacks.entrySet())
+        {
+            sb.append(e.getKey()).append(' ').append(e.getValue() / 1000).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 生成文本报告：各阶段耗时和最慢的10个组件
+     */
+    @Override
+    public synchronized String toString()
+    {
+        StringBuilder sb = new StringBuilder("Startup profile:\n");
+        for (Map.Entry<String, Long> e : phases.entrySet())
+        {
+            sb.append(String.format("  %-16s %10.3f ms%n", e.getKey(), e.getValue() / 1e6));
+        }
+        sb.append("Slowest components:\n");
+        for (ComponentTiming t : getSlowestComponents(10))
+        {
+            sb.append(String.format("  %-16s parse %10.3f ms, create %10.3f ms%n",
+                    t.getId(), t.getParseNanos() / 1e6, t.getCreateNanos() / 1e6));
+        }
+        return sb.toString();
+    }
+
+    private ComponentTiming timing(String id)
+    {
+        return components.computeIfAbsent(id, ComponentTiming::new);
+    }
+
+    /**
+     * 第一次创建结束时记录耗时，自身耗时为总耗时减去子帧的耗时
+     */
+    private synchronized void created(Deque<Frame> stack, Frame frame, long nanos)
+    {
+        timing(frame.id).createNanos += nanos;
+        phases.merge(PHASE_CREATE, stack.isEmpty() ? nanos : 0, Long::sum);
+
+        StringBuilder path = new StringBuilder(PHASE_CREATE);
+        for (Iterator<Frame> it = stack.descendingIterator(); it.hasNext(); )
+        {
+            path.append(';').append(it.next().id);
+        }
+        path.append(';').append(frame.id);
+        stacks.merge(path.toString(), nanos - frame.childNanos, Long::sum);
+
+        Frame parent = stack.peek();
+        if (parent != null) parent.childNanos += nanos;
+    }
+
+    /**
+     * 单个组件的耗时
+     */
+    public static class ComponentTiming
+    {
+        private final String id;
+        private long parseNanos;
+        private long createNanos;
+
+        private ComponentTiming(String id)
+        {
+            this.id = id;
+        }
+
+        public String getId()
+        {
+            return id;
+        }
+
+        public long getParseNanos()
+        {
+            return parseNanos;
+        }
+
+        public long getCreateNanos()
+        {
+            return createNanos;
+        }
+
+        public long getTotalNanos()
+        {
+            return parseNanos + createNanos;
+        }
+    }
+
+    private static class Frame
+    {
+        private final String id;
+        private long childNanos;
+
+        private Frame(String id)
+        {
+            this.id = id;
+        }
+    }
+
+    /**
+     * 记录第一次创建耗时的组件
+     */
+    private class ProfiledComponent implements Component
+    {
+        private final String id;
+        private final Component component;
+        private final AtomicBoolean created = new AtomicBoolean();
+
+        private ProfiledComponent(String id, Component component)
+        {
+            this.id = id;
+            this.component = component;
+        }
+
+        @Override
+        public Object create()
+        {
+            if (created.get() || !created.compareAndSet(false, true))
+                return component.create();
+
+            Deque<Frame> stack = frames.get();
+            Frame frame = new Frame(id);
+            stack.push(frame);
+            long start = System.nanoTime();
+            try
+            {
+                return component.create();
+            }
+            finally
+            {
+                long nanos = System.nanoTime() - start;
+                stack.pop();
+                created(stack, frame, nanos);
+            }
+        }
+
+        @Override
+        public Class<?> getType()
+        {
+            return component.getType();
+        }
+
+        @Override
+        public void release(Object obj)
+        {
+            component.release(obj);
+        }
+
+        @Override
+        public Set<String> getQualifiers()
+        {
+            return component.getQualifiers();
+        }
+
+        @Override
+        public boolean isPrimary()
+        {
+            return component.isPrimary();
+        }
+
+        @Override
+        public int getPriority()
+        {
+            return component.getPriority();
+        }
+    }
+}
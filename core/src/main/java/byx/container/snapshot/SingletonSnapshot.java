@@ -0,0 +1,451 @@
+package byx.container.snapshot;
+
+import byx.container.component.Component;
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+import byx.container.util.HashUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 单例快照：将指定组件创建的对象保存到文件，下次启动时如果配置指纹和对象图中所有类的类文件都没有变化，
+ * 直接从文件恢复对象，不再执行构造函数或工厂方法。
+ * 对象通过Java序列化保存，对象及其引用的对象都必须可序列化。快照缺失、损坏或不匹配时组件照常创建对象。
+ * 快照文件中记录的类和类文件摘要只用于判断快照是否过期，任何人都可以重新计算，不能防止篡改。
+ * 恢复时只允许反序列化组件类型及其父类、String和基本类型的包装类，以及通过allow和allowPackages指定的类
+ */
+public class SingletonSnapshot
+{
+    private static final int MAGIC = 0x42595853;
+    private static final int VERSION = 2;
+    private static final Set<Class<?>> DEFAULT_ALLOWED = Set.of(String.class, Number.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+
+    private final Path file;
+    private volatile String fingerprint = "";
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, SnapshotComponent> components = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Set<String> restored = ConcurrentHashMap.newKeySet();
+    private final Set<String> allowedClasses = ConcurrentHashMap.newKeySet();
+    private final Set<String> allowedPackages = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param file 快照文件
+     */
+    public SingletonSnapshot(Path file)
+    {
+        this.file = file;
+    }
+
+    /**
+     * 允许恢复时反序列化指定的类，对象图中除组件类型以外的类都需要指定
+     * @param types 类
+     * @return 当前快照
+     */
+    public SingletonSnapshot allow(Class<?>... types)
+    {
+        for (Class<?> type : types)
+        {
+            allowedClasses.add(type.getName());
+        }
+        return this;
+    }
+
+    /**
+     * 允许恢复时反序列化指定包及其子包中的所有类
+     * @param packages 包名
+     * @return 当前快照
+     */
+    public SingletonSnapshot allowPackages(String... packages)
+    {
+        for (String p : packages)
+        {
+            allowedPackages.add(p + ".");
+        }
+        return this;
+    }
+
+    /**
+     * 读取快照文件，只有快照保存时的配置指纹与当前指纹一致时才使用其中的对象
+     * @param fingerprint 配置指纹，配置或依赖的外部数据变化时应随之变化
+     */
+    public void load(String fingerprint)
+    {
+        this.fingerprint = fingerprint;
+        entries.clear();
+        if (!Files.exists(file)) return;
+
+        Map<String, Entry> loaded = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+        {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(fingerprint)) return;
+            int count = in.readInt();
+            for (int i = 0; i < count; ++i)
+            {
+                String id = in.readUTF();
+                Set<String> classNames = new TreeSet<>();
+                int classCount = in.readInt();
+                for (int j = 0; j < classCount; ++j)
+                {
+                    classNames.add(in.readUTF());
+                }
+                String graphHash = in.readUTF();
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                loaded.put(id, new Entry(classNames, graphHash, data));
+            }
+        }
+        catch (IOException e)
+        {
+            // 快照损坏时忽略整个快照
+            return;
+        }
+        entries.putAll(loaded);
+    }
+
+    /**
+     * 将组件纳入快照，返回的组件是单例，第一次创建时优先从快照恢复
+     * @param id 组件id，用于在快照中标识对象
+     * @param component 组件
+     * @return 快照组件
+     */
+    public Component wrap(String id, Component component)
+    {
+        SnapshotComponent c = new SnapshotComponent(id, component);
+        components.put(id, c);
+        return c;
+    }
+
+    /**
+     * 获取从快照恢复的组件id
+     * @return 组件id
+     */
+    public Set<String> getRestored()
+    {
+        return Collections.unmodifiableSet(restored);
+    }
+
+    /**
+     * 将已创建的对象保存到快照文件，未创建的组件不保存
+     */
+    public void save()
+    {
+        Map<String, Object> objects = new LinkedHashMap<>();
+        synchronized (components)
+        {
+            for (SnapshotComponent c : components.values())
+            {
+                Object obj = c.obj;
+                if (obj != null) objects.put(c.id, obj);
+            }
+        }
+
+        try
+        {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp))))
+            {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(fingerprint);
+                out.writeInt(objects.size());
+                for (Map.Entry<String, Object> e : objects.entrySet())
+                {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    Map<String, Class<?>> classes = serialize(e.getKey(), e.getValue(), bytes);
+                    out.writeUTF(e.getKey());
+                    out.writeInt(classes.size());
+                    for (String name : classes.keySet())
+                    {
+                        out.writeUTF(name);
+                    }
+                    out.writeUTF(graphHash(classes));
+                    out.writeInt(bytes.size());
+                    bytes.writeTo(out);
+                }
+            }
+            catch (IOException | RuntimeException e)
+            {
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+            // 先写临时文件再替换，进程中途退出不会留下损坏的快照
+            try
+            {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new ByxContainerException(Message.snapshotSaveFailed(file.toString()), e);
+        }
+    }
+
+    /**
+     * 在JVM退出时保存快照
+     * @return 当前快照
+     */
+    public SingletonSnapshot saveOnShutdown()
+    {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::save, "byx-snapshot"));
+        return this;
+    }
+
+    /**
+     * 序列化对象，返回对象图中出现的所有类
+     */
+    private static Map<String, Class<?>> serialize(String id, Object obj, ByteArrayOutputStream bytes) throws IOException
+    {
+        try (RecordingOutputStream out = new RecordingOutputStream(bytes))
+        {
+            out.writeObject(obj);
+            return out.classes;
+        }
+        catch (NotSerializableException e)
+        {
+            throw new ByxContainerException(Message.snapshotNotSerializable(id, obj.getClass()), e);
+        }
+    }
+
+    /**
+     * 计算对象图中所有类的类文件摘要，任何一个类文件无法读取时返回空串
+     */
+    private static String graphHash(Map<String, Class<?>> classes)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Class<?>> e : classes.entrySet())
+        {
+            String hash = classHash(e.getValue());
+            if (hash.isEmpty()) return "";
+            sb.append(e.getKey()).append('=').append(hash).append('\n');
+        }
+        return HashUtils.sha256(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 计算类文件的摘要，数组使用元素类型的摘要，无法读取类文件时返回空串
+     */
+    private static String classHash(Class<?> type)
+    {
+        while (type.isArray()) type = type.getComponentType();
+        if (type.isPrimitive()) return type.getName();
+        ClassLoader loader = type.getClassLoader() == null ? ClassLoader.getSystemClassLoader() : type.getClassLoader();
+        try (InputStream in = loader.getResourceAsStream(type.getName().replace('.', '/') + ".class"))
+        {
+            return in == null ? "" : HashUtils.sha256(in.readAllBytes());
+        }
+        catch (IOException e)
+        {
+            return "";
+        }
+    }
+
+    /**
+     * 判断恢复时是否允许反序列化指定的类
+     */
+    private boolean isAllowed(Class<?> c, Set<String> componentTypes)
+    {
+        String name = c.getName();
+        if (DEFAULT_ALLOWED.contains(c) || componentTypes.contains(name) || allowedClasses.contains(name))
+            return true;
+        for (String p : allowedPackages)
+        {
+            if (name.startsWith(p)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 组件类型及其父类
+     */
+    private static Set<String> typeHierarchy(Component component)
+    {
+        Set<String> names = new TreeSet<>();
+        try
+        {
+            for (Class<?> c = component.getType(); c != null; c = c.getSuperclass())
+            {
+                names.add(c.getName());
+            }
+        }
+        catch (RuntimeException e)
+        {
+            // 无法确定组件类型时只允许指定的类
+        }
+        return names;
+    }
+
+    /**
+     * 从快照恢复对象，对象图中任何类的类文件变化或反序列化失败时返回null
+     */
+    private Object restore(String id, Component component)
+    {
+        Entry e = entries.remove(id);
+        if (e == null || e.graphHash.isEmpty()) return null;
+        try
+        {
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            Map<String, Class<?>> classes = new TreeMap<>();
+            for (String name : e.classNames)
+            {
+                classes.put(name, Class.forName(name, false, loader));
+            }
+            if (!graphHash(classes).equals(e.graphHash)) return null;
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(e.data)))
+            {
+                // 允许的类来自组件类型和调用者的设置，不读取快照文件中的类名，防止反序列化被篡改的快照时实例化任意类
+                Set<String> componentTypes = typeHierarchy(component);
+                in.setObjectInputFilter(info ->
+                {
+                    Class<?> c = info.serialClass();
+                    if (c == null) return ObjectInputFilter.Status.UNDECIDED;
+                    // 集合的readObject会额外检查内部数组，元素类型为Object或基本类型的数组只分配内存，允许创建
+                    while (c.isArray()) c = c.getComponentType();
+                    return c.isPrimitive() || c == Object.class || isAllowed(c, componentTypes)
+                            ? ObjectInputFilter.Status.ALLOWED
+                            : ObjectInputFilter.Status.REJECTED;
+                });
+                Object obj = in.readObject();
+                restored.add(id);
+                return obj;
+            }
+        }
+        catch (Exception ex)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * 记录序列化过程中写出类描述的所有类
+     */
+    private static class RecordingOutputStream extends ObjectOutputStream
+    {
+        private final Map<String, Class<?>> classes = new TreeMap<>();
+
+        private RecordingOutputStream(OutputStream out) throws IOException
+        {
+            super(out);
+        }
+
+        @Override
+        protected void annotateClass(Class<?> cl)
+        {
+            classes.put(cl.getName(), cl);
+        }
+
+        @Override
+        protected void annotateProxyClass(Class<?> cl)
+        {
+            classes.put(cl.getName(), cl);
+        }
+    }
+
+    /**
+     * 快照中的一个对象
+     */
+    private static class Entry
+    {
+        private final Set<String> classNames;
+        private final String graphHash;
+        private final byte[] data;
+
+        private Entry(Set<String> classNames, String graphHash, byte[] data)
+        {
+            this.classNames = classNames;
+            this.graphHash = graphHash;
+            this.data = data;
+        }
+    }
+
+    /**
+     * 快照组件：第一次创建时优先从快照恢复，之后总是返回同一个对象
+     */
+    private class SnapshotComponent implements Component
+    {
+        private final String id;
+        private final Component component;
+        private volatile Object obj;
+
+        private SnapshotComponent(String id, Component component)
+        {
+            this.id = id;
+            this.component = component;
+        }
+
+        @Override
+        public Object create()
+        {
+            Object o = obj;
+            if (o == null)
+            {
+                // 对象的创建可能很耗时，加锁避免重复创建
+                synchronized (this)
+                {
+                    o = obj;
+                    if (o == null)
+                    {
+                        o = restore(id, component);
+                        if (o == null) o = component.create();
+                        obj = o;
+                    }
+                }
+            }
+            return o;
+        }
+
+        @Override
+        public Class<?> getType()
+        {
+            return component.getType();
+        }
+
+        @Override
+        public Set<String> getQualifiers()
+        {
+            return component.getQualifiers();
+        }
+
+        @Override
+        public boolean isPrimary()
+        {
+            return component.isPrimary();
+        }
+
+        @Override
+        public int getPriority()
+        {
+            return component.getPriority();
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package byx.container.util;
+
+import byx.container.exception.LookupFailedException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 类的反射元数据：包装类型、基本类型、所有父类型，以及按参数个数分组的公有构造函数和公有方法。
+ * 每个类只计算一次，通过ClassValue缓存。
+ */
+final class ClassInfo
+{
+    private static final Constructor<?>[] NO_CONSTRUCTORS = new Constructor<?>[0];
+    private static final Method[] NO_METHODS = new Method[0];
+
+    private static final Map<Class<?>, Class<?>> primitiveAndWrap = Map.of(
+            byte.class, Byte.class,
+            short.class, Short.class,
+            int.class, Integer.class,
+            long.class, Long.class,
+            float.class, Float.class,
+            double.class, Double.class,
+            char.class, Character.class,
+            boolean.class, Boolean.class);
+
+    private static final ClassValue<ClassInfo> cache = new ClassValue<>()
+    {
+        @Override
+        protected ClassInfo computeValue(Class<?> type)
+        {
+            return new ClassInfo(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final boolean primitive;
+    private final Class<?> wrapType;
+    private final Class<?> primitiveType;
+    private volatile Set<Class<?>> supertypes;
+    private volatile Constructor<?>[][] constructors;
+    private volatile Map<String, Method[][]> methods;
+    private final ConcurrentMap<Signature, Resolution> resolutions = new ConcurrentHashMap<>();
+
+    private ClassInfo(Class<?> type)
+    {
+        this.type = type;
+        this.primitive = primitiveAndWrap.containsKey(type);
+        this.wrapType = primitive ? primitiveAndWrap.get(type) : type;
+        Class<?> p = type;
+        for (Map.Entry<Class<?>, Class<?>> e : primitiveAndWrap.entrySet())
+        {
+            if (e.getValue() == type) p = e.getKey();
+        }
+        this.primitiveType = p;
+    }
+
+    /**
+     * 获取类的元数据
+     */
+    static ClassInfo of(Class<?> type)
+    {
+        return cache.get(type);
+    }
+
+    /**
+     * 是否为基本类型（不包括void）
+     */
+    boolean isPrimitive()
+    {
+        return primitive;
+    }
+
+    /**
+     * 对应的包装类型，非基本类型返回自身
+     */
+    Class<?> getWrap()
+    {
+        return wrapType;
+    }
+
+    /**
+     * 对应的基本类型，非包装类型返回自身
+     */
+    Class<?> getPrimitive()
+    {
+        return primitiveType;
+    }
+
+    /**
+     * 判断当前类型的值能否赋给指定类型，即指定类型是当前类型自身、父类或实现的接口
+     */
+    boolean isSubtypeOf(Class<?> t)
+    {
+        // 数组的协变关系不体现在父类和接口中
+        if (type.isArray()) return t.isAssignableFrom(type);
+        Set<Class<?>> s = supertypes;
+        if (s == null)
+        {
+            Set<Class<?>> res = new HashSet<>();
+            Deque<Class<?>> queue = new ArrayDeque<>();
+            queue.add(type);
+            while (!queue.isEmpty())
+            {
+                Class<?> c = queue.poll();
+                if (!res.add(c)) continue;
+                if (c.getSuperclass() != null) queue.add(c.getSuperclass());
+                queue.addAll(Arrays.asList(c.getInterfaces()));
+            }
+            // 接口的值也可以赋给Object
+            if (!type.isPrimitive()) res.add(Object.class);
+            s = Set.copyOf(res);
+            supertypes = s;
+        }
+        return s.contains(t);
+    }
+
+    /**
+     * 获取指定参数个数的公有构造函数
+     */
+    Constructor<?>[] getConstructors(int parameterCount)
+    {
+        Constructor<?>[][] cs = constructors;
+        if (cs == null)
+        {
+            Constructor<?>[] all = type.getConstructors();
+            Arrays.sort(all, Comparator.comparing(Constructor::toString));
+            cs = groupByArity(all, NO_CONSTRUCTORS);
+            constructors = cs;
+        }
+        return parameterCount < cs.length ? cs[parameterCount] : NO_CONSTRUCTORS;
+    }
+
+    /**
+     * 获取指定名称和参数个数的公有方法
+     */
+    Method[] getMethods(String name, int parameterCount)
+    {
+        Map<String, Method[][]> ms = methods;
+        if (ms == null)
+        {
+            Map<String, List<Method>> byName = new HashMap<>();
+            for (Method m : type.getMethods())
+            {
+                byName.computeIfAbsent(m.getName(), k -> new ArrayList<>()).add(m);
+            }
+            ms = new HashMap<>();
+            for (Map.Entry<String, List<Method>> e : byName.entrySet())
+            {
+                // 桥接方法排在后面，保证同签名时优先选中返回类型最具体的方法；
+                // 其余按签名排序，使结果不依赖于getMethods返回的顺序
+                e.getValue().sort(Comparator.comparing(Method::isBridge).thenComparing(Method::toString));
+                ms.put(e.getKey(), groupByArity(e.getValue().toArray(NO_METHODS), NO_METHODS));
+            }
+            methods = ms;
+        }
+        Method[][] group = ms.get(name);
+        if (group == null || parameterCount >= group.length) return NO_METHODS;
+        return group[parameterCount];
+    }
+
+    /**
+     * 获取重载决议的结果，同一方法名和参数类型只决议一次，查找失败的结果也会被缓存。
+     * 结果缓存在所涉及的类中类加载器层次最深的那个类的元数据中，缓存不会让更早的类加载器引用更晚的类加载器中的类，
+     * 不影响类加载器的卸载；所涉及的类加载器不在同一条委托链上时不缓存
+     * @param name 方法名，构造函数为null
+     * @param parameterTypes 实参类型
+     * @param resolver 决议过程，找不到时抛出LookupFailedException
+     */
+    Executable resolve(String name, Class<?>[] parameterTypes, Supplier<? extends Executable> resolver)
+    {
+        ClassInfo owner = this;
+        for (Class<?> p : parameterTypes)
+        {
+            ClassLoader ownerLoader = owner.type.getClassLoader();
+            ClassLoader loader = p.getClassLoader();
+            if (loader == ownerLoader || isAncestor(loader, ownerLoader)) continue;
+            if (!isAncestor(ownerLoader, loader)) return resolve(resolver).get();
+            owner = of(p);
+        }
+
+        Map<Signature, Resolution> resolutions = owner.resolutions;
+        Resolution r = resolutions.get(new Signature(type, name, parameterTypes));
+        if (r == null)
+        {
+            r = resolutions.computeIfAbsent(new Signature(type, name, parameterTypes.clone()), k -> resolve(resolver));
+        }
+        return r.get();
+    }
+
+    private static Resolution resolve(Supplier<? extends Executable> resolver)
+    {
+        try
+        {
+            return new Resolution(resolver.get(), null);
+        }
+        catch (LookupFailedException e)
+        {
+            return new Resolution(null, e);
+        }
+    }
+
+    /**
+     * 判断ancestor是否为loader自身或其祖先，启动类加载器（null）是所有类加载器的祖先
+     */
+    private static boolean isAncestor(ClassLoader ancestor, ClassLoader loader)
+    {
+        if (ancestor == null) return true;
+        for (ClassLoader l = loader; l != null; l = l.getParent())
+        {
+            if (l == ancestor) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 按参数个数分组
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Executable> T[][] groupByArity(T[] executables, T[] empty)
+    {
+        int max = -1;
+        for (T e : executables)
+        {
+            max = Math.max(max, e.getParameterCount());
+        }
+        List<T>[] lists = new List[max + 1];
+        for (T e : executables)
+        {
+            int n = e.getParameterCount();
+            if (lists[n] == null) lists[n] = new ArrayList<>();
+            lists[n].add(e);
+        }
+        T[][] res = (T[][]) Array.newInstance(empty.getClass(), max + 1);
+        for (int i = 0; i <= max; ++i)
+        {
+            res[i] = lists[i] == null ? empty : lists[i].toArray(empty);
+        }
+        return res;
+    }
+
+    /**
+     * 声明方法的类、方法名和实参类型
+     */
+    private static final class Signature
+    {
+        private final Class<?> type;
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final int hash;
+
+        private Signature(Class<?> type, String name, Class<?>[] parameterTypes)
+        {
+            this.type = type;
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.hash = 31 * (31 * type.hashCode() + Objects.hashCode(name)) + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) return true;
+            if (!(o instanceof Signature)) return false;
+            Signature s = (Signature) o;
+            return type == s.type && Objects.equals(name, s.name) && Arrays.equals(parameterTypes, s.parameterTypes);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+
+    /**
+     * 决议结果：找到的方法或者预先创建的失败异常
+     */
+    private static final class Resolution
+    {
+        private final Executable executable;
+        private final LookupFailedException error;
+
+        private Resolution(Executable executable, LookupFailedException error)
+        {
+            this.executable = executable;
+            this.error = error;
+        }
+
+        private Executable get()
+        {
+            if (executable == null) throw error;
+            return executable;
+        }
+    }
+}
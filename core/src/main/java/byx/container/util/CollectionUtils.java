@@ -0,0 +1,82 @@
+package byx.container.util;
+
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.Message;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Vector;
+import java.util.function.IntFunction;
+
+public class CollectionUtils
+{
+    /**
+     * 计算哈希表的初始容量，使其在放入expectedSize个元素之前不会扩容
+     * @param expectedSize 元素个数
+     * @return 初始容量
+     */
+    public static int hashCapacity(int expectedSize)
+    {
+        return expectedSize < 3 ? expectedSize + 1 : (int) (expectedSize / 0.75f) + 1;
+    }
+
+    /**
+     * 获取集合类型的工厂，工厂参数为元素个数
+     * 对于支持指定初始容量的标准集合类型，按元素个数预先分配容量；其它类型以及没有public (int)构造函数的子类使用默认构造函数
+     * @param type 集合类型
+     * @param <T> 集合类型
+     * @return 集合工厂
+     */
+    public static <T> IntFunction<T> sizedFactory(Class<T> type)
+    {
+        if (HashMap.class.isAssignableFrom(type) || HashSet.class.isAssignableFrom(type))
+        {
+            Constructor<T> constructor = capacityConstructor(type);
+            if (constructor != null) return n -> newInstance(constructor, hashCapacity(n));
+        }
+        else if (ArrayList.class.isAssignableFrom(type) || Vector.class.isAssignableFrom(type))
+        {
+            Constructor<T> constructor = capacityConstructor(type);
+            if (constructor != null) return n -> newInstance(constructor, n);
+        }
+
+        try
+        {
+            Constructor<T> constructor = type.getConstructor();
+            return n -> newInstance(constructor);
+        }
+        catch (NoSuchMethodException e)
+        {
+            throw new ByxContainerException(Message.invalidCollectionType(type), e);
+        }
+    }
+
+    /**
+     * 获取指定初始容量的构造函数，不存在时返回null
+     */
+    private static <T> Constructor<T> capacityConstructor(Class<T> type)
+    {
+        try
+        {
+            return type.getConstructor(int.class);
+        }
+        catch (NoSuchMethodException e)
+        {
+            return null;
+        }
+    }
+
+    private static <T> T newInstance(Constructor<T> constructor, Object... params)
+    {
+        try
+        {
+            return constructor.newInstance(params);
+        }
+        catch (Exception e)
+        {
+            throw new ByxContainerException(Message.invalidCollectionType(constructor.getDeclaringClass()), e);
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package byx.container.util;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * 紧凑的只读集合，用于存放配置文件中的常数集合
+ * 元素保存在数组中：int、long、double列表使用基本类型数组，Set和Map用一个int数组做开放寻址哈希索引，
+ * 每个元素只占一到两个数组槽位，不需要为每个元素创建节点对象。迭代顺序与声明顺序一致。
+ */
+public final class CompactCollections
+{
+    private CompactCollections() {}
+
+    /**
+     * 创建只读列表，元素全部为Integer、Long或Double时使用基本类型数组存放
+     * @param elements 元素
+     * @return 只读列表
+     */
+    public static List<Object> list(Object[] elements)
+    {
+        if (allInstanceOf(elements, Integer.class))
+        {
+            int[] a = new int[elements.length];
+            for (int i = 0; i < a.length; ++i) a[i] = (Integer) elements[i];
+            return new IntList(a);
+        }
+        if (allInstanceOf(elements, Long.class))
+        {
+            long[] a = new long[elements.length];
+            for (int i = 0; i < a.length; ++i) a[i] = (Long) elements[i];
+            return new LongList(a);
+        }
+        if (allInstanceOf(elements, Double.class))
+        {
+            double[] a = new double[elements.length];
+            for (int i = 0; i < a.length; ++i) a[i] = (Double) elements[i];
+            return new DoubleList(a);
+        }
+        return new ObjectList(elements.clone());
+    }
+
+    /**
+     * 创建只读集合，重复的元素只保留第一个
+     * @param elements 元素
+     * @return 只读集合
+     */
+    public static Set<Object> set(Object[] elements)
+    {
+        HashIndex index = HashIndex.build(elements, null);
+        return new CompactSet(index);
+    }
+
+    /**
+     * 创建只读map，重复的键保留第一次出现的位置和最后一次出现的值
+     * @param keys 键
+     * @param values 值，与keys一一对应
+     * @return 只读map
+     */
+    public static Map<Object, Object> map(Object[] keys, Object[] values)
+    {
+        return new CompactMap(HashIndex.build(keys, values));
+    }
+
+    private static boolean allInstanceOf(Object[] elements, Class<?> type)
+    {
+        if (elements.length == 0) return false;
+        for (Object e : elements)
+        {
+            if (e == null || e.getClass() != type) return false;
+        }
+        return true;
+    }
+
+    private static final class IntList extends AbstractList<Object> implements RandomAccess
+    {
+        private final int[] elements;
+
+        private IntList(int[] elements)
+        {
+            this.elements = elements;
+        }
+
+        @Override
+        public Object get(int index)
+        {
+            return elements[index];
+        }
+
+        @Override
+        public int size()
+        {
+            return elements.length;
+        }
+    }
+
+    private static final class LongList extends AbstractList<Object> implements RandomAccess
+    {
+        private final long[] elements;
+
+        private LongList(long[] elements)
+        {
+            this.elements = elements;
+        }
+
+        @Override
+        public Object get(int index)
+        {
+            return elements[index];
+        }
+
+        @Override
+        public int size()
+        {
+            return elements.length;
+        }
+    }
+
+    private static final class DoubleList extends AbstractList<Object> implements RandomAccess
+    {
+        private final double[] elements;
+
+        private DoubleList(double[] elements)
+        {
+            this.elements = elements;
+        }
+
+        @Override
+        public Object get(int index)
+        {
+            return elements[index];
+        }
+
+        @Override
+        public int size()
+        {
+            return elements.length;
+        }
+    }
+
+    private static final class ObjectList extends AbstractList<Object> implements RandomAccess
+    {
+        private final Object[] elements;
+
+        private ObjectList(Object[] elements)
+        {
+            this.elements = elements;
+        }
+
+        @Override
+        public Object get(int index)
+        {
+            return elements[index];
+        }
+
+        @Override
+        public int size()
+        {
+            return elements.length;
+        }
+    }
+
+    /**
+     * 按声明顺序存放的键（和值），以及开放寻址的哈希索引，索引中存放的是键的下标加一
+     */
+    private static final class HashIndex
+    {
+        private final Object[] keys;
+        private final Object[] values;
+        private final int[] table;
+
+        private HashIndex(Object[] keys, Object[] values, int[] table)
+        {
+            this.keys = keys;
+            this.values = values;
+            this.table = table;
+        }
+
+        static HashIndex build(Object[] keys, Object[] values)
+        {
+            int capacity = Integer.highestOneBit(Math.max(keys.length, 1) * 2 - 1) << 1;
+            int[] table = new int[capacity];
+            List<Object> ks = new ArrayList<>(keys.length);
+            List<Object> vs = values == null ? null : new ArrayList<>(keys.length);
+            for (int i = 0; i < keys.length; ++i)
+            {
+                int slot = probe(table, ks, keys[i]);
+                if (table[slot] == 0)
+                {
+                    ks.add(keys[i]);
+                    if (vs != null) vs.add(values[i]);
+                    table[slot] = ks.size();
+                }
+                else if (vs != null)
+                {
+                    vs.set(table[slot] - 1, values[i]);
+                }
+            }
+            return new HashIndex(ks.toArray(), vs == null ? null : vs.toArray(), table);
+        }
+
+        /**
+         * 查找键所在的槽位，键不存在时返回应插入的空槽位
+         */
+        private static int probe(int[] table, List<Object> keys, Object key)
+        {
+            int mask = table.length - 1;
+            int h = Objects.hashCode(key);
+            int slot = (h ^ (h >>> 16)) & mask;
+            while (table[slot] != 0 && !Objects.equals(keys.get(table[slot] - 1), key))
+            {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        int indexOf(Object key)
+        {
+            int mask = table.length - 1;
+            int h = Objects.hashCode(key);
+            int slot = (h ^ (h >>> 16)) & mask;
+            while (table[slot] != 0)
+            {
+                int index = table[slot] - 1;
+                if (Objects.equals(keys[index], key)) return index;
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+    }
+
+    private static final class CompactSet extends AbstractSet<Object>
+    {
+        private final HashIndex index;
+
+        private CompactSet(HashIndex index)
+        {
+            this.index = index;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return index.indexOf(o) >= 0;
+        }
+
+        @Override
+        public Iterator<Object> iterator()
+        {
+            return new ArrayIterator<>(index.keys.length)
+            {
+                @Override
+                Object get(int i)
+                {
+                    return index.keys[i];
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return index.keys.length;
+        }
+    }
+
+    private static final class CompactMap extends AbstractMap<Object, Object>
+    {
+        private final HashIndex index;
+
+        private CompactMap(HashIndex index)
+        {
+            this.index = index;
+        }
+
+        @Override
+        public Object get(Object key)
+        {
+            int i = index.indexOf(key);
+            return i < 0 ? null : index.values[i];
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return index.indexOf(key) >= 0;
+        }
+
+        @Override
+        public int size()
+        {
+            return index.keys.length;
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet()
+        {
+            return new AbstractSet<>()
+            {
+                @Override
+                public Iterator<Entry<Object, Object>> iterator()
+                {
+                    return new ArrayIterator<>(index.keys.length)
+                    {
+                        @Override
+                        Entry<Object, Object> get(int i)
+                        {
+                            return new SimpleImmutableEntry<>(index.keys[i], index.values[i]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return index.keys.length;
+                }
+            };
+        }
+    }
+
+    private abstract static class ArrayIterator<T> implements Iterator<T>
+    {
+        private final int size;
+        private int next;
+
+        ArrayIterator(int size)
+        {
+            this.size = size;
+        }
+
+        abstract T get(int i);
+
+        @Override
+        public boolean hasNext()
+        {
+            return next < size;
+        }
+
+        @Override
+        public T next()
+        {
+            if (next >= size) throw new NoSuchElementException();
+            return get(next++);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package byx.container.util;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class HashUtils
+{
+    /**
+     * 计算SHA-256摘要
+     * @param bytes 数据
+     * @return 十六进制表示的摘要
+     */
+    public static String sha256(byte[] bytes)
+    {
+        return sha256(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * 计算SHA-256摘要，不改变缓冲区的位置
+     * @param bytes 数据
+     * @return 十六进制表示的摘要
+     */
+    public static String sha256(ByteBuffer bytes)
+    {
+        try
+        {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(bytes.duplicate());
+            byte[] digest = md.digest();
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest)
+            {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+}
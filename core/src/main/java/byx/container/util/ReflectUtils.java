@@ -0,0 +1,363 @@
+package byx.container.util;
+
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.LookupFailedException;
+import byx.container.jfr.ReflectiveInvocationEvent;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+public class ReflectUtils
+{
+    /**
+     * 判断是不是基本类型
+     * @param type 类型
+     * @return 如果type是基本类型，则返回true，否则返回false
+     */
+    public static boolean isPrimitive(Class<?> type)
+    {
+        return ClassInfo.of(type).isPrimitive();
+    }
+
+    /**
+     * 获取包装类型
+     * @param type 类型
+     * @return 如果type是基本类型，则返回对应的包装类型，否则返回type
+     */
+    public static Class<?> getWrap(Class<?> type)
+    {
+        return ClassInfo.of(type).getWrap();
+    }
+
+    /**
+     * 获取基本类型
+     * @param type 类型
+     * @return 如果type是包装类型，则返回对应的基本类型，否则返回type
+     */
+    public static Class<?> getPrimitive(Class<?> type)
+    {
+        return ClassInfo.of(type).getPrimitive();
+    }
+
+    /**
+     * 判断类型是否匹配
+     * @param declaredType 声明的类型
+     * @param actualType 实际的类型
+     * @return 如果actualType的值可以赋给declaredType（相同、子类型，或者装箱、拆箱后满足这两种关系），则返回true
+     */
+    public static boolean isAssignable(Class<?> declaredType, Class<?> actualType)
+    {
+        return ClassInfo.of(getWrap(actualType)).isSubtypeOf(getWrap(declaredType));
+    }
+
+    /**
+     * 调用构造函数创建对象
+     * @param type 要创建对象的类型
+     * @param params 参数
+     * @param <T> 返回类型
+     * @return 调用构造函数创建的对象
+     */
+    public static <T> T create(Class<T> type, Object... params)
+    {
+        return create(type, getTypes(params), params);
+    }
+
+    /**
+     * 按指定的参数类型调用构造函数创建对象，参数类型可以是基本类型
+     * @param type 要创建对象的类型
+     * @param parameterTypes 用于重载决议的参数类型
+     * @param params 参数
+     * @param <T> 返回类型
+     * @return 调用构造函数创建的对象
+     */
+    public static <T> T create(Class<T> type, Class<?>[] parameterTypes, Object[] params)
+    {
+        ReflectiveInvocationEvent event = new ReflectiveInvocationEvent();
+        event.begin();
+        try
+        {
+            return type.cast(getConstructor(type, parameterTypes).newInstance(params));
+        }
+        catch (Exception e)
+        {
+            throw new ByxContainerException(() -> String.format("Cannot invoke constructor of \"%s\" with parameters %s.",
+                    type.getCanonicalName(), Arrays.toString(params)), e);
+        }
+        finally
+        {
+            event.end(type, "<init>", "constructor");
+        }
+    }
+
+    /**
+     * 调用静态方法
+     * @param type 类型
+     * @param methodName 方法名
+     * @param params 参数
+     * @param <T> 返回类型
+     * @return 静态方法的返回值
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T call(Class<?> type, String methodName, Object... params)
+    {
+        return call(type, methodName, getTypes(params), params);
+    }
+
+    /**
+     * 按指定的参数类型调用静态方法，参数类型可以是基本类型
+     * @param type 类型
+     * @param methodName 方法名
+     * @param parameterTypes 用于重载决议的参数类型
+     * @param params 参数
+     * @param <T> 返回类型
+     * @return 静态方法的返回值
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T call(Class<?> type, String methodName, Class<?>[] parameterTypes, Object[] params)
+    {
+        ReflectiveInvocationEvent event = new ReflectiveInvocationEvent();
+        event.begin();
+        try
+        {
+            return (T) getMethod(type, methodName, parameterTypes).invoke(null, params);
+        }
+        catch (Exception e)
+        {
+            throw new ByxContainerException(() -> String.format("Cannot invoke static method \"%s\" of \"%s\" with parameters %s.",
+                    methodName, type.getCanonicalName(), Arrays.toString(params)), e);
+        }
+        finally
+        {
+            event.end(type, methodName, "static");
+        }
+    }
+
+    /**
+     * 调用实例方法
+     * @param obj 实例对象
+     * @param methodName 方法名
+     * @param params 参数
+     * @param <T> 返回类型
+     * @return 实例方法的返回值
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T call(Object obj, String methodName, Object... params)
+    {
+        return call(obj, methodName, getTypes(params), params);
+    }
+
+    /**
+     * 按指定的参数类型调用实例方法，参数类型可以是基本类型
+     * @param obj 实例对象
+     * @param methodName 方法名
+     * @param parameterTypes 用于重载决议的参数类型
+     * @param params 参数
+     * @param <T> 返回类型
+     * @return 实例方法的返回值
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T call(Object obj, String methodName, Class<?>[] parameterTypes, Object[] params)
+    {
+        ReflectiveInvocationEvent event = new ReflectiveInvocationEvent();
+        event.begin();
+        try
+        {
+            return (T) getMethod(obj.getClass(), methodName, parameterTypes).invoke(obj, params);
+        }
+        catch (Exception e)
+        {
+            throw new ByxContainerException(() -> String.format("Cannot invoke method \"%s\" of \"%s\" with parameters %s.",
+                    methodName, obj.getClass().getCanonicalName(), Arrays.toString(params)), e);
+        }
+        finally
+        {
+            event.end(obj.getClass(), methodName, "instance");
+        }
+    }
+
+    /**
+     * 设置JavaBean的属性
+     * @param bean JavaBean实例
+     * @param propertyName 属性名
+     * @param value 值
+     */
+    public static void setProperty(Object bean, String propertyName, Object value)
+    {
+        try
+        {
+            PropertyDescriptor pd = new PropertyDescriptor(propertyName, bean.getClass());
+            Method setter = pd.getWriteMethod();
+            setter.invoke(bean, value);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 获取方法返回值类型
+     * @param type 方法所属的类
+     * @param methodName 方法名
+     * @param parameterTypes 参数类型数组
+     * @return 方法返回值类型
+     */
+    public static Class<?> getReturnType(Class<?> type, String methodName, Class<?>... parameterTypes)
+    {
+        return getMethod(type, methodName, parameterTypes).getReturnType();
+    }
+
+    /**
+     * 根据参数数组获取类型数组
+     */
+    private static Class<?>[] getTypes(Object... params)
+    {
+        Class<?>[] types = new Class[params.length];
+        for (int i = 0; i < params.length; ++i)
+        {
+            types[i] = params[i].getClass();
+        }
+        return types;
+    }
+
+    /**
+     * 根据参数类型获取构造函数
+     */
+    private static Constructor<?> getConstructor(Class<?> type, Class<?>[] parameterTypes)
+    {
+        return (Constructor<?>) ClassInfo.of(type).resolve(null, parameterTypes,
+                () -> findConstructor(type, parameterTypes));
+    }
+
+    /**
+     * 根据参数类型查找最具体的构造函数
+     */
+    private static Constructor<?> findConstructor(Class<?> type, Class<?>[] parameterTypes)
+    {
+        Constructor<?> constructor = mostSpecific(ClassInfo.of(type).getConstructors(parameterTypes.length), parameterTypes);
+        if (constructor == null)
+        {
+            throw new LookupFailedException(String.format("Cannot find constructor of \"%s\" with parameter types %s.",
+                    type.getCanonicalName(), Arrays.toString(parameterTypes)));
+        }
+        return constructor;
+    }
+
+    /**
+     * 根据参数类型和方法名获取方法
+     */
+    private static Method getMethod(Class<?> type, String name, Class<?>[] parameterTypes)
+    {
+        return (Method) ClassInfo.of(type).resolve(name, parameterTypes,
+                () -> getAccessibleMethod(type, findMethod(type, name, parameterTypes)));
+    }
+
+    /**
+     * 如果方法声明在非公有类中（如Collections.unmodifiableList的实现类），
+     * 则在公有的父类和接口中查找同签名的方法，否则无法通过反射调用
+     */
+    private static Method getAccessibleMethod(Class<?> type, Method method)
+    {
+        if (Modifier.isPublic(method.getDeclaringClass().getModifiers())) return method;
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty())
+        {
+            Class<?> c = queue.poll();
+            if (Modifier.isPublic(c.getModifiers()))
+            {
+                for (Method m : ClassInfo.of(c).getMethods(method.getName(), method.getParameterCount()))
+                {
+                    if (Arrays.equals(m.getParameterTypes(), method.getParameterTypes())) return m;
+                }
+            }
+            if (c.getSuperclass() != null) queue.add(c.getSuperclass());
+            queue.addAll(Arrays.asList(c.getInterfaces()));
+        }
+        return method;
+    }
+
+    /**
+     * 根据参数类型和方法名查找最具体的方法
+     */
+    private static Method findMethod(Class<?> type, String name, Class<?>[] parameterTypes)
+    {
+        Method method = mostSpecific(ClassInfo.of(type).getMethods(name, parameterTypes.length), parameterTypes);
+        if (method == null)
+        {
+            throw new LookupFailedException(String.format("Cannot find method \"%s\" of \"%s\" with parameter types %s.",
+                    name, type.getCanonicalName(), Arrays.toString(parameterTypes)));
+        }
+        return method;
+    }
+
+    /**
+     * 在候选的重载中选出最具体的一个，规则与Java编译期的重载决议类似：
+     * 先只考虑子类型匹配，没有可用的重载时再允许装箱和拆箱。
+     * 找不到可用的重载时返回null，存在多个同样具体的重载时抛出异常。
+     */
+    private static <T extends Executable> T mostSpecific(T[] candidates, Class<?>[] parameterTypes)
+    {
+        for (boolean loose : new boolean[]{false, true})
+        {
+            List<T> applicable = new ArrayList<>();
+            for (T c : candidates)
+            {
+                if (isApplicable(c.getParameterTypes(), parameterTypes, loose)) applicable.add(c);
+            }
+            if (applicable.isEmpty()) continue;
+
+            List<T> best = new ArrayList<>();
+            for (T c : applicable)
+            {
+                boolean maximal = true;
+                for (T d : applicable)
+                {
+                    if (!isApplicable(d.getParameterTypes(), c.getParameterTypes(), loose))
+                    {
+                        maximal = false;
+                        break;
+                    }
+                }
+                if (maximal) best.add(c);
+            }
+
+            // 参数类型完全相同的重载（如桥接方法）视为同一个，取排在前面的
+            T first = best.isEmpty() ? null : best.get(0);
+            if (first != null && best.stream().allMatch(c -> Arrays.equals(c.getParameterTypes(), first.getParameterTypes())))
+                return first;
+
+            List<String> ambiguous = new ArrayList<>();
+            for (T c : best.isEmpty() ? applicable : best)
+            {
+                ambiguous.add(c.toString());
+            }
+            Collections.sort(ambiguous);
+            throw new LookupFailedException(String.format("Ambiguous overloads for parameter types %s: %s.",
+                    Arrays.toString(parameterTypes), ambiguous));
+        }
+        return null;
+    }
+
+    /**
+     * 判断实参类型能否传给形参类型，loose为true时允许装箱和拆箱
+     */
+    private static boolean isApplicable(Class<?>[] declaredTypes, Class<?>[] actualTypes, boolean loose)
+    {
+        for (int i = 0; i < declaredTypes.length; ++i)
+        {
+            if (loose ? !isAssignable(declaredTypes[i], actualTypes[i]) : !ClassInfo.of(actualTypes[i]).isSubtypeOf(declaredTypes[i]))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,227 @@
+package byx.container.test;
+
+import byx.container.ByxContainer;
+import byx.container.Container;
+import byx.container.annotation.*;
+import byx.container.exception.ByxContainerException;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnnotationScanTest
+{
+    public interface Greeter
+    {
+        String greet();
+    }
+
+    @ByxComponent(qualifiers = "en")
+    public static class EnglishGreeter implements Greeter
+    {
+        @Override
+        public String greet()
+        {
+            return "hello";
+        }
+    }
+
+    @ByxComponent(id = "chinese", qualifiers = "zh", primary = true)
+    public static class ChineseGreeter implements Greeter
+    {
+        @Override
+        public String greet()
+        {
+            return "你好";
+        }
+    }
+
+    @ByxComponent
+    public static class Service
+    {
+        private final Greeter greeter;
+        private final String name;
+        @Inject
+        @Qualifier("en")
+        private Greeter english;
+
+        public Service()
+        {
+            this(null, null);
+        }
+
+        @Inject
+        public Service(Greeter greeter, @Id("serviceName") String name)
+        {
+            this.greeter = greeter;
+            this.name = name;
+        }
+
+        public Greeter getEnglish()
+        {
+            return english;
+        }
+
+        public void setEnglish(Greeter english)
+        {
+            this.english = english;
+        }
+
+        public String run()
+        {
+            return name + ":" + greeter.greet() + "," + english.greet();
+        }
+    }
+
+    public static class Config
+    {
+        @Factory(id = "serviceName")
+        public static String name()
+        {
+            return "svc";
+        }
+
+        @Factory(singleton = false)
+        public static StringBuilder builder(@Qualifier("en") Greeter greeter)
+        {
+            return new StringBuilder(greeter.greet());
+        }
+    }
+
+    @ByxComponent
+    public static class SetterOnly
+    {
+        @Inject
+        @Qualifier("en")
+        private Greeter greeter;
+
+        public void setGreeter(Greeter greeter)
+        {
+            this.greeter = greeter;
+        }
+
+        public String run()
+        {
+            return greeter.greet();
+        }
+    }
+
+    @ByxComponent
+    public static class NoSetter
+    {
+        @Inject
+        private Greeter greeter;
+    }
+
+    @ByxComponent
+    public static class Ambiguous
+    {
+        public Ambiguous()
+        {
+        }
+
+        public Ambiguous(String s)
+        {
+        }
+    }
+
+    @Test
+    public void testIndex() throws Exception
+    {
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getClassLoader().getResourceAsStream(ComponentScanner.INDEX_LOCATION), StandardCharsets.UTF_8)))
+        {
+            lines = reader.lines().collect(Collectors.toList());
+        }
+        assertTrue(lines.contains(EnglishGreeter.class.getName()));
+        assertTrue(lines.contains(Service.class.getName()));
+        assertTrue(lines.contains(Config.class.getName()));
+        assertFalse(lines.contains(Greeter.class.getName()));
+        assertEquals(lines.stream().sorted().collect(Collectors.toList()), lines);
+    }
+
+    @Test
+    public void testIncrementalIndex() throws Exception
+    {
+        Path src = Files.createTempDirectory("byx-src");
+        Path out = Files.createTempDirectory("byx-out");
+        Path kept = write(src, "Kept", "@byx.container.annotation.ByxComponent public class Kept {}");
+        Path removed = write(src, "Removed", "@byx.container.annotation.ByxComponent public class Removed {}");
+        Path changed = write(src, "Changed", "public class Changed { @byx.container.annotation.Factory public static String s() { return \"\"; } }");
+        compile(out, kept, removed, changed);
+        assertEquals(List.of("p.Changed", "p.Kept", "p.Removed"), Files.readAllLines(out.resolve(ComponentScanner.INDEX_LOCATION)));
+
+        // 只编译部分源文件：保留未重新编译的类，删除已不存在或不再被标注的类
+        Files.delete(out.resolve("p/Removed.class"));
+        write(src, "Changed", "public class Changed { public static String s() { return \"\"; } }");
+        Path added = write(src, "Added", "@byx.container.annotation.ByxComponent public class Added {}");
+        compile(out, changed, added);
+        assertEquals(List.of("p.Added", "p.Kept"), Files.readAllLines(out.resolve(ComponentScanner.INDEX_LOCATION)));
+    }
+
+    private static Path write(Path src, String name, String body) throws Exception
+    {
+        Path file = src.resolve("p").resolve(name + ".java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "package p;\n" + body + "\n");
+        return file;
+    }
+
+    private static void compile(Path out, Path... files)
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> args = new ArrayList<>(List.of("-d", out.toString(),
+                "-cp", out + File.pathSeparator + System.getProperty("java.class.path"),
+                "-processor", ComponentIndexProcessor.class.getName()));
+        for (Path f : files)
+        {
+            args.add(f.toString());
+        }
+        assertEquals(0, compiler.run(null, null, null, args.toArray(new String[0])));
+    }
+
+    @Test
+    public void testRegister()
+    {
+        Container container = new ByxContainer();
+        ComponentScanner.register(container, EnglishGreeter.class, ChineseGreeter.class, Service.class, Config.class);
+
+        Service service = container.getObject("service");
+        assertEquals("svc:你好,hello", service.run());
+        assertSame(service, container.getObject(Service.class));
+        assertEquals("hello", container.getObject(Greeter.class, "en").greet());
+        assertEquals("你好", container.getObject(Greeter.class).greet());
+        assertSame(container.getObject("englishGreeter"), container.getObject("englishGreeter"));
+        assertEquals("hello", container.<StringBuilder>getObject("builder").toString());
+        assertNotSame(container.getObject("builder"), container.getObject("builder"));
+    }
+
+    @Test
+    public void testSetterOnly()
+    {
+        // 注入字段只需要setter，不需要getter
+        Container container = new ByxContainer();
+        ComponentScanner.register(container, EnglishGreeter.class, SetterOnly.class);
+        assertEquals("hello", container.<SetterOnly>getObject("setterOnly").run());
+    }
+
+    @Test
+    public void testException()
+    {
+        Container container = new ByxContainer();
+        assertThrows(ByxContainerException.class, () -> ComponentScanner.register(container, Ambiguous.class));
+        assertThrows(ByxContainerException.class, () -> ComponentScanner.register(container, NoSetter.class));
+    }
+}
@@ -0,0 +1,244 @@
+package byx.container.test;
+
+import byx.container.ByxContainer;
+import byx.container.ComponentBinding;
+import byx.container.ComponentKey;
+import byx.container.Container;
+import byx.container.exception.ByxContainerException;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static byx.container.component.Component.*;
+
+public class ByxContainerTest
+{
+    public static class A {}
+    public static class B extends A {}
+    public interface C {}
+    public static class D implements C {}
+
+    @Test
+    public void test()
+    {
+        Container container = new ByxContainer();
+        container.addComponent("c1", constructor(String.class, value("hello")));
+        container.addComponent("c2", staticFactory(List.class, "of", value(1), value(2), value(3)));
+        container.addComponent("c3", constructor(Integer.class, value(123)));
+        container.addComponent("c4", constructor(Integer.class, value(456)));
+        container.addComponent("c5", value(new B()));
+        container.addComponent("c6", constructor(D.class));
+        assertEquals(String.class, container.getType("c1"));
+        assertEquals(List.class, container.getType("c2"));
+        assertEquals("hello", container.getObject("c1"));
+        assertEquals(List.of(1, 2, 3), container.getObject("c2"));
+        assertEquals(123, (int) container.getObject("c3"));
+        assertEquals(Integer.class, container.getType("c3"));
+        assertEquals(456, (int) container.getObject("c4"));
+        assertEquals(Integer.class, container.getType("c4"));
+        assertEquals(B.class, container.getType("c5"));
+        assertEquals(D.class, container.getType("c6"));
+
+        String s = container.getObject(String.class);
+        assertEquals("hello", s);
+        List<?> list = container.getObject(List.class);
+        assertEquals(List.of(1, 2, 3), list);
+        A a = container.getObject(A.class);
+        assertTrue(a instanceof B);
+        B b = container.getObject(B.class);
+        C c = container.getObject(C.class);
+        assertTrue(c instanceof D);
+        D d = container.getObject(D.class);
+
+        assertThrows(ByxContainerException.class,
+                () -> container.addComponent("c100", null));
+        assertThrows(ByxContainerException.class,
+                () -> container.getObject("c101"));
+        assertThrows(ByxContainerException.class,
+                () -> container.getType("c101"));
+
+        assertThrows(ByxContainerException.class,
+                () -> container.getObject(Integer.class));
+        assertThrows(ByxContainerException.class,
+                () -> container.getObject(Double.class));
+    }
+
+    @Test
+    public void testComponentKey()
+    {
+        Container container = new ByxContainer();
+        ComponentKey k1 = container.getKey("c1");
+        assertSame(k1, container.getKey("c1"));
+        assertEquals("c1", k1.getId());
+        assertThrows(ByxContainerException.class, () -> container.getObject(k1));
+
+        container.addComponent("c1", value("hello"));
+        container.addComponent("c2", value(123));
+        ComponentKey k2 = container.getKey("c2");
+        assertNotEquals(k1.getIndex(), k2.getIndex());
+        assertEquals("hello", container.getObject(k1));
+        assertEquals(String.class, container.getType(k1));
+        assertEquals(123, (int) container.getObject(k2));
+
+        container.addComponent("c1", value("hi"));
+        assertSame(k1, container.getKey("c1"));
+        assertEquals("hi", container.getObject(k1));
+
+        Container other = new ByxContainer();
+        other.addComponent("c1", value("other"));
+        assertThrows(ByxContainerException.class, () -> other.getObject(k1));
+    }
+
+    @Test
+    public void testGetObjects()
+    {
+        Container container = new ByxContainer();
+        container.addComponent("c1", value("hello"));
+        container.addComponent("c2", value(123));
+        container.addComponent("c3", constructor(B.class).singleton());
+        container.addComponent("c4", constructor(D.class));
+
+        assertArrayEquals(new Object[]{"hello", 123}, container.getObjects("c1", "c2"));
+        assertArrayEquals(new Object[0], container.getObjects(new String[0]));
+        assertThrows(ByxContainerException.class, () -> container.getObjects("c1", "c100"));
+
+        Object[] objs = container.getObjects(String.class, A.class, C.class);
+        assertEquals("hello", objs[0]);
+        assertTrue(objs[1] instanceof B);
+        assertTrue(objs[2] instanceof D);
+        assertThrows(ByxContainerException.class, () -> container.getObjects(String.class, Double.class));
+        assertThrows(ByxContainerException.class, () -> container.getObjects(Object.class));
+
+        ComponentBinding binding = container.bind("c3", "c1");
+        assertEquals(2, binding.size());
+        Object[] result = new Object[2];
+        assertSame(result, binding.get(result));
+        assertTrue(result[0] instanceof B);
+        assertEquals("hello", result[1]);
+        assertSame(result[0], binding.get()[0]);
+        container.addComponent("c1", value("hi"));
+        assertEquals("hi", binding.get()[1]);
+        assertThrows(ByxContainerException.class, () -> container.bind("c1", "c100"));
+    }
+
+    @Test
+    public void testGetAll()
+    {
+        Container container = new ByxContainer();
+        container.addComponent("c1", constructor(D.class));
+        container.addComponent("c2", value(new B()));
+        container.addComponent("c3", constructor(D.class));
+
+        List<C> cs = container.getAll(C.class);
+        assertEquals(2, cs.size());
+        assertTrue(cs.get(0) instanceof D);
+        assertNotSame(cs.get(0), cs.get(1));
+        assertEquals(1, container.getAll(A.class).size());
+        assertEquals(List.of(), container.getAll(String.class));
+        assertThrows(ByxContainerException.class, () -> container.getObject(C.class));
+
+        container.addComponent("c3", value("hello"));
+        assertEquals(1, container.getAll(C.class).size());
+        assertTrue(container.getObject(C.class) instanceof D);
+        assertEquals(List.of("hello"), container.getAll(String.class));
+    }
+
+    @Test
+    public void testQualifier()
+    {
+        Container container = new ByxContainer();
+        container.addComponent("c1", constructor(D.class).qualify("d1"));
+        container.addComponent("c2", constructor(D.class).qualify("d2", "fast").singleton());
+        container.addComponent("c3", value("hello").priority(1));
+        container.addComponent("c4", value("hi"));
+        container.addComponent("c5", value(123).primary());
+        container.addComponent("c6", value(456).priority(100));
+
+        assertThrows(ByxContainerException.class, () -> container.getObject(C.class));
+        assertNotNull(container.getObject(C.class, "d1"));
+        D d = (D) container.getObject(C.class, "fast");
+        assertSame(d, container.getObject(C.class, "d2"));
+        assertThrows(ByxContainerException.class, () -> container.getObject(C.class, "d3"));
+        assertEquals("hello", container.getObject(String.class));
+        assertEquals(123, container.getObject(Integer.class));
+        assertEquals("hello", type(container, String.class).create());
+        assertSame(d, type(container, C.class, "fast").create());
+
+        container.addComponent("c7", value("bye").priority(1));
+        assertThrows(ByxContainerException.class, () -> container.getObject(String.class));
+        container.addComponent("c8", value("ok").primary());
+        assertEquals("ok", container.getObject(String.class));
+    }
+
+    @Test
+    public void testChild()
+    {
+        Container parent = new ByxContainer();
+        parent.addComponent("c1", constructor(B.class).singleton());
+        parent.addComponent("c2", value("parent"));
+        parent.addComponent("c3", value(1));
+
+        Container child = parent.createChild();
+        child.addComponent("c2", value("child"));
+        child.addComponent("c4", value(2));
+
+        assertSame(parent.getObject("c1"), child.getObject("c1"));
+        assertSame(child.getObject("c1"), child.getObject(child.getKey("c1")));
+        assertEquals("parent", parent.getObject("c2"));
+        assertEquals("child", child.getObject("c2"));
+        assertEquals("child", child.getObject(String.class));
+        assertEquals(List.of(1, 2), child.getAll(Integer.class));
+        assertEquals(List.of(1), parent.getAll(Integer.class));
+        assertThrows(ByxContainerException.class, () -> parent.getObject("c4"));
+        assertThrows(ByxContainerException.class, () -> child.getObject("c5"));
+
+        Container grandChild = child.createChild();
+        assertEquals("child", grandChild.getObject("c2"));
+        assertEquals(1, (int) grandChild.getObject("c3"));
+
+        // 父容器注册新组件后子容器的缓存失效
+        parent.addComponent("c3", value(10));
+        parent.addComponent("c5", value(3.14));
+        assertEquals(10, (int) child.getObject("c3"));
+        assertEquals(10, (int) grandChild.getObject("c3"));
+        assertEquals(3.14, grandChild.getObject(Double.class));
+        assertEquals(List.of(10, 2), grandChild.getAll(Integer.class));
+
+        // 子容器中覆盖为不同类型的组件
+        child.addComponent("c3", value("override"));
+        assertEquals(List.of(2), grandChild.getAll(Integer.class));
+        assertEquals(2, (int) grandChild.getObject(Integer.class));
+    }
+
+    @Test
+    public void testFork()
+    {
+        Container container = new ByxContainer();
+        for (int i = 0; i < 2000; ++i)
+        {
+            container.addComponent("c" + i, value(i));
+        }
+        container.addComponent("s", constructor(B.class).singleton());
+        ComponentKey k1500 = container.getKey("c1500");
+
+        Container fork = container.fork();
+        assertEquals(1500, (int) fork.getObject(k1500));
+        assertSame(container.getObject("s"), fork.getObject("s"));
+
+        fork.addComponent("c1500", value(-1));
+        fork.addComponent("x", value("fork"));
+        container.addComponent("c1", value(-2));
+        assertEquals(-1, (int) fork.getObject(k1500));
+        assertEquals(1500, (int) container.getObject(k1500));
+        assertEquals(1, (int) fork.getObject("c1"));
+        assertEquals(-2, (int) container.getObject("c1"));
+        assertEquals("fork", fork.getObject(String.class));
+        assertThrows(ByxContainerException.class, () -> container.getObject("x"));
+        assertEquals(2000, fork.getAll(Integer.class).size());
+
+        Container fork2 = fork.fork();
+        fork2.addComponent("x", value("fork2"));
+        assertEquals("fork", fork.getObject("x"));
+        assertEquals("fork2", fork2.getObject("x"));
+        assertThrows(ByxContainerException.class, () -> new ByxContainer().getObject(k1500));
+    }
+}
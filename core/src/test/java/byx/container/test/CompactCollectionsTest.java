@@ -0,0 +1,77 @@
+package byx.container.test;
+
+import byx.container.util.CompactCollections;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactCollectionsTest
+{
+    @Test
+    public void testList()
+    {
+        assertEquals(List.of(1, 2, 3), CompactCollections.list(new Object[]{1, 2, 3}));
+        assertEquals(List.of(1L, 2L), CompactCollections.list(new Object[]{1L, 2L}));
+        assertEquals(List.of(1.5, 2.5), CompactCollections.list(new Object[]{1.5, 2.5}));
+        assertEquals(Arrays.asList(1, "a", null), CompactCollections.list(new Object[]{1, "a", null}));
+        assertEquals(List.of(), CompactCollections.list(new Object[0]));
+
+        List<Object> list = CompactCollections.list(new Object[]{1, 2, 3});
+        assertEquals(List.of(1, 2, 3).hashCode(), list.hashCode());
+        assertEquals(1, list.indexOf(2));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 4));
+    }
+
+    @Test
+    public void testSet()
+    {
+        Object[] elements = new Object[20000];
+        for (int i = 0; i < elements.length; ++i)
+        {
+            elements[i] = "e" + i;
+        }
+        Set<Object> set = CompactCollections.set(elements);
+        assertEquals(20000, set.size());
+        assertTrue(set.contains("e12345"));
+        assertFalse(set.contains("e20000"));
+        assertEquals(new HashSet<>(Arrays.asList(elements)), set);
+        assertEquals("e0", set.iterator().next());
+
+        Set<Object> s2 = CompactCollections.set(new Object[]{3, 1, 3, null, 2});
+        assertEquals(List.of(3, 1), new ArrayList<>(s2).subList(0, 2));
+        assertEquals(4, s2.size());
+        assertTrue(s2.contains(null));
+        assertThrows(UnsupportedOperationException.class, () -> s2.remove(3));
+    }
+
+    @Test
+    public void testMap()
+    {
+        Object[] keys = new Object[20000];
+        Object[] values = new Object[20000];
+        Map<Object, Object> expected = new HashMap<>();
+        for (int i = 0; i < keys.length; ++i)
+        {
+            keys[i] = "k" + i;
+            values[i] = i;
+            expected.put(keys[i], values[i]);
+        }
+        Map<Object, Object> map = CompactCollections.map(keys, values);
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(12345, map.get("k12345"));
+        assertNull(map.get("k20000"));
+        assertTrue(map.containsKey("k0"));
+        assertFalse(map.containsKey("k20000"));
+
+        Map<Object, Object> m2 = CompactCollections.map(new Object[]{"b", "a", "b", null}, new Object[]{1, 2, 3, 4});
+        assertEquals(List.of("b", "a"), new ArrayList<>(m2.keySet()).subList(0, 2));
+        assertEquals(3, m2.get("b"));
+        assertEquals(4, m2.get(null));
+        assertThrows(UnsupportedOperationException.class, () -> m2.put("c", 5));
+        assertThrows(UnsupportedOperationException.class, () -> m2.entrySet().iterator().next().setValue(0));
+    }
+}
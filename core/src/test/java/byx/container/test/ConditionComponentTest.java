@@ -20,4 +20,16 @@ public class ConditionComponentTest
         assertEquals("hello", c2.create());
         assertNull(c2.getType());
     }
+
+    @Test
+    public void testFold()
+    {
+        Component c1 = constructor(String.class, value("hello"));
+        Component c2 = value("hi");
+        assertSame(c1, condition(value(true), c1, c2).fold());
+        assertSame(c2, condition(value(false), c1, c2).fold());
+        assertSame(c2, condition(value("true"), c1, c2).fold());
+        Component c3 = condition(staticFactory(Boolean.class, "valueOf", value(true)), c1, c2);
+        assertSame(c3, c3.fold());
+    }
 }
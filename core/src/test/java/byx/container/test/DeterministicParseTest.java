@@ -0,0 +1,260 @@
+package byx.container.test;
+
+import byx.container.ByxContainer;
+import byx.container.ComponentKey;
+import byx.container.Container;
+import byx.container.component.Component;
+import byx.container.factory.json.JsonContainerFactory;
+import byx.container.factory.json.parser.Parser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 同一配置文件在不同的JVM中应解析出完全相同的组件图，解析顺序不依赖哈希值。
+ * 每个JVM中Set.of、Map.of等不可变集合的迭代顺序使用不同的随机种子
+ */
+public class DeterministicParseTest
+{
+    /**
+     * 记录组件注册顺序的容器，createChild返回一个新的记录容器
+     */
+    private static class RecordingContainer extends ByxContainer
+    {
+        private final Map<String, Component> components = new LinkedHashMap<>();
+        private RecordingContainer child;
+
+        @Override
+        public Container createChild()
+        {
+            child = new RecordingContainer();
+            return child;
+        }
+
+        @Override
+        public void addComponent(String id, Component component)
+        {
+            components.put(id, component);
+            super.addComponent(id, component);
+        }
+    }
+
+    /**
+     * 获取所有测试配置文件，按编号排序
+     */
+    private static List<Path> fixtures() throws Exception
+    {
+        URL url = Thread.currentThread().getContextClassLoader().getResource("general");
+        assertNotNull(url, "Cannot find fixture directory \"general\".");
+        List<Path> res = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(url.toURI()), "test*.json"))
+        {
+            stream.forEach(res::add);
+        }
+        res.sort(Comparator.comparingInt(p -> Integer.parseInt(p.getFileName().toString().replaceAll("\\D", ""))));
+        return res;
+    }
+
+    /**
+     * 解析配置文件并返回记录了组件注册顺序的容器
+     */
+    private static RecordingContainer parse(InputStream inputStream)
+    {
+        RecordingContainer root = new RecordingContainer();
+        new JsonContainerFactory(inputStream).create(root);
+        return root.child;
+    }
+
+    /**
+     * 解析所有测试配置文件并输出组件图的文本描述
+     */
+    private static String describeFixtures(List<Path> fixtures) throws IOException
+    {
+        StringBuilder sb = new StringBuilder();
+        for (Path fixture : fixtures)
+        {
+            sb.append(fixture.getFileName()).append('\n');
+            RecordingContainer container;
+            try (InputStream inputStream = Files.newInputStream(fixture))
+            {
+                container = parse(inputStream);
+            }
+            catch (RuntimeException e)
+            {
+                sb.append("  error: ").append(e.getMessage()).append('\n');
+                continue;
+            }
+            for (Map.Entry<String, Component> e : container.components.entrySet())
+            {
+                sb.append("  ").append(e.getKey()).append(" = ");
+                describe(e.getValue(), sb, Collections.newSetFromMap(new IdentityHashMap<>()));
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void describe(Object obj, StringBuilder sb, Set<Object> visiting)
+    {
+        if (obj == null)
+        {
+            sb.append("null");
+            return;
+        }
+        Class<?> type = obj.getClass();
+        if (obj instanceof String || obj instanceof Number || obj instanceof Boolean || obj instanceof Character)
+        {
+            sb.append(type.getSimpleName()).append('(').append(obj).append(')');
+        }
+        else if (obj instanceof Class)
+        {
+            sb.append(((Class<?>) obj).getName());
+        }
+        else if (obj instanceof ComponentKey)
+        {
+            sb.append("key(").append(((ComponentKey) obj).getId()).append(')');
+        }
+        else if (obj instanceof Container)
+        {
+            sb.append("container");
+        }
+        else if (type.isSynthetic() || type.getName().contains("$$Lambda"))
+        {
+            sb.append("lambda");
+        }
+        else if (!visiting.add(obj))
+        {
+            sb.append("cycle");
+        }
+        else
+        {
+            if (type.isArray())
+            {
+                sb.append('[');
+                for (int i = 0; i < Array.getLength(obj); ++i)
+                {
+                    if (i > 0) sb.append(", ");
+                    describe(Array.get(obj, i), sb, visiting);
+                }
+                sb.append(']');
+            }
+            else if (obj instanceof Map && !type.getName().startsWith("byx."))
+            {
+                sb.append(type.getSimpleName()).append('{');
+                for (Map.Entry<?, ?> e : ((Map<?, ?>) obj).entrySet())
+                {
+                    describe(e.getKey(), sb, visiting);
+                    sb.append('=');
+                    describe(e.getValue(), sb, visiting);
+                    sb.append(", ");
+                }
+                sb.append('}');
+            }
+            else if (obj instanceof Collection && !type.getName().startsWith("byx."))
+            {
+                sb.append(type.getSimpleName()).append('[');
+                for (Object e : (Collection<?>) obj)
+                {
+                    describe(e, sb, visiting);
+                    sb.append(", ");
+                }
+                sb.append(']');
+            }
+            else if (type.getName().startsWith("byx."))
+            {
+                sb.append(type.getName()).append('{');
+                for (Class<?> c = type; c != null && c.getName().startsWith("byx."); c = c.getSuperclass())
+                {
+                    Field[] fields = c.getDeclaredFields();
+                    Arrays.sort(fields, Comparator.comparing(Field::getName));
+                    for (Field f : fields)
+                    {
+                        if (Modifier.isStatic(f.getModifiers())) continue;
+                        f.setAccessible(true);
+                        sb.append(f.getName()).append('=');
+                        try
+                        {
+                            describe(f.get(obj), sb, visiting);
+                        }
+                        catch (IllegalAccessException e)
+                        {
+                            throw new IllegalStateException(e);
+                        }
+                        sb.append(", ");
+                    }
+                }
+                sb.append('}');
+            }
+            else
+            {
+                sb.append(type.getName());
+            }
+            visiting.remove(obj);
+        }
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        System.out.write(describeFixtures(fixtures()).getBytes(StandardCharsets.UTF_8));
+        System.out.flush();
+    }
+
+    @Test
+    public void testParserOrder()
+    {
+        assertEquals(List.of("list", "set", "map", "ref", "class", "factory", "instance", "if", "custom", "type",
+                "long", "float", "double", "decimal"), new ArrayList<>(Parser.parsers.keySet()));
+
+        // 同时包含多个键时使用排在前面的解析器，组件按声明顺序注册
+        String json = "{\"components\": {" +
+                "\"c3\": {\"class\": \"java.lang.StringBuilder\", \"type\": \"java.lang.String\"}," +
+                "\"c1\": {\"ref\": \"c2\", \"class\": \"java.lang.StringBuilder\"}," +
+                "\"c2\": \"hello\"}}";
+        RecordingContainer container = parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(List.of("c3", "c1", "c2"), new ArrayList<>(container.components.keySet()));
+        assertEquals(StringBuilder.class, container.getObject("c3").getClass());
+        assertEquals("hello", container.getObject("c1"));
+    }
+
+    @Test
+    public void test() throws Exception
+    {
+        List<Path> fixtures = fixtures();
+        assertFalse(fixtures.isEmpty(), "Cannot find any fixture in \"general\".");
+
+        String expected = describeFixtures(fixtures);
+        for (Path fixture : fixtures)
+        {
+            assertTrue(expected.contains(fixture.getFileName() + "\n"));
+        }
+        assertEquals(expected, describeFixtures(fixtures));
+
+        // 在多个新的JVM中解析，每个JVM的哈希种子不同
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        for (int i = 0; i < 3; ++i)
+        {
+            Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    DeterministicParseTest.class.getName()).redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+            assertEquals(0, process.exitValue(), output);
+            assertEquals(expected, output);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package byx.container.test;
+
+import byx.container.Container;
+import byx.container.component.Component;
+import byx.container.exception.ByxContainerException;
+import byx.container.factory.json.JsonContainerFactory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrEventTest
+{
+    @Test
+    public void test() throws Exception
+    {
+        Path file = Files.createTempFile("byx", ".jfr");
+        try (Recording recording = new Recording())
+        {
+            recording.enable("byx.container.ComponentLookup").withoutThreshold();
+            recording.enable("byx.container.SingletonInit").withoutThreshold();
+            recording.enable("byx.container.ReflectiveInvocation").withoutThreshold();
+            recording.enable("byx.container.ContainerCreate").withoutThreshold();
+            recording.start();
+
+            InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test22.json");
+            Container container = new JsonContainerFactory(inputStream).create();
+            container.getObject("c4");
+            container.addComponent("n", Component.value(1));
+            container.getObject(Integer.class, null);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        List<String> names = events.stream().map(e -> e.getEventType().getName()).collect(Collectors.toList());
+        assertTrue(names.contains("byx.container.ContainerCreate"));
+        assertTrue(names.contains("byx.container.ReflectiveInvocation"));
+
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("byx.container.ComponentLookup")
+                && "c4".equals(e.getString("component")) && "id".equals(e.getString("kind"))));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("byx.container.ComponentLookup")
+                && "java.lang.Integer".equals(e.getString("component")) && "type".equals(e.getString("kind"))));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("byx.container.SingletonInit")
+                && "c4".equals(e.getString("component")) && e.getClass("componentType") != null));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("byx.container.ReflectiveInvocation")
+                && "<init>".equals(e.getString("method")) && e.getThread() != null));
+        RecordedEvent create = events.stream().filter(e -> e.getEventType().getName().equals("byx.container.ContainerCreate"))
+                .findFirst().orElseThrow();
+        assertEquals(4, create.getInt("componentCount"));
+        assertTrue(create.getBoolean("succeeded"));
+    }
+
+    @Test
+    public void testCreateFailed() throws Exception
+    {
+        Path file = Files.createTempFile("byx", ".jfr");
+        try (Recording recording = new Recording())
+        {
+            recording.enable("byx.container.ContainerCreate").withoutThreshold();
+            recording.start();
+
+            String json = "{\"components\": {\"c1\": 1, \"c2\": {\"class\": \"byx.NotExist\"}, \"c3\": 3}}";
+            assertThrows(ByxContainerException.class, () -> new JsonContainerFactory(
+                    new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))).create());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // 创建失败时也提交事件，组件数为失败前已注册的组件数
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        RecordedEvent create = events.stream().filter(e -> e.getEventType().getName().equals("byx.container.ContainerCreate"))
+                .findFirst().orElseThrow();
+        assertEquals(1, create.getInt("componentCount"));
+        assertFalse(create.getBoolean("succeeded"));
+    }
+}
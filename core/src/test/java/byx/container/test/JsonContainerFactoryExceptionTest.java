@@ -234,4 +234,31 @@ public class JsonContainerFactoryExceptionTest
 
         assertThrows(ByxContainerException.class, () -> container.getObject(String.class));
     }
+
+    /**
+     * 集合类型与集合组件不匹配
+     */
+    @Test
+    public void test20()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("exception/test20.json");
+        ContainerFactory factory = new JsonContainerFactory(inputStream);
+        assertThrows(ByxContainerException.class, factory::create);
+    }
+
+    @Test
+    public void test21()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("exception/test21.json");
+        ContainerFactory factory = new JsonContainerFactory(inputStream);
+        assertThrows(ByxContainerException.class, factory::create);
+    }
+
+    @Test
+    public void test22()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("exception/test22.json");
+        ContainerFactory factory = new JsonContainerFactory(inputStream);
+        assertThrows(ByxContainerException.class, factory::create);
+    }
 }
@@ -1,5 +1,7 @@
 package byx.container.test;
 
+import byx.container.ByxContainer;
+import byx.container.ComponentKey;
 import byx.container.Container;
 import byx.container.component.Component;
 import byx.container.component.PostProcessor;
@@ -8,8 +10,17 @@ import byx.container.factory.ContainerFactory;
 import byx.container.factory.json.JsonContainerFactory;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -180,8 +191,46 @@ public class JsonContainerFactoryTest
         }
     }
 
+    public static class ClearProcessor implements PostProcessor
+    {
+        @Override
+        public void process(Object obj)
+        {
+            ((StringBuilder) obj).setLength(0);
+        }
+    }
+
+    public static class PlainList extends ArrayList<Object> {}
+    public static class PlainSet extends HashSet<Object> {}
+
     public interface UserDao {}
     public static class UserDaoImpl implements UserDao {}
+    public interface Counter
+    {
+        int next();
+    }
+    public static class CounterImpl implements Counter
+    {
+        public static int instances = 0;
+        private int value;
+
+        public CounterImpl(int value)
+        {
+            instances++;
+            this.value = value;
+        }
+
+        public static Counter of(int value)
+        {
+            return new CounterImpl(value);
+        }
+
+        @Override
+        public int next()
+        {
+            return value++;
+        }
+    }
     public interface UserService {}
     public static class UserServiceImpl implements UserService
     {
@@ -205,7 +254,9 @@ public class JsonContainerFactoryTest
     public void test1()
     {
         assertThrows(ByxContainerException.class,
-                () -> new JsonContainerFactory(null));
+                () -> new JsonContainerFactory((InputStream) null));
+        assertThrows(ByxContainerException.class,
+                () -> new JsonContainerFactory((Path) null));
 
         InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test1.json");
         ContainerFactory factory = new JsonContainerFactory(inputStream);
@@ -576,4 +627,293 @@ public class JsonContainerFactoryTest
         assertTrue(container.getObject(UserService.class) instanceof UserServiceImpl);
         assertTrue(container.getObject(UserDao.class) instanceof UserDaoImpl);
     }
+
+    /**
+     * 限定符与优先级
+     */
+    @Test
+    public void test15()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test15.json");
+        ContainerFactory factory = new JsonContainerFactory(inputStream);
+        Container container = factory.create();
+
+        UserDao dao1 = container.getObject("dao1");
+        UserDao dao2 = container.getObject("dao2");
+        UserDao dao3 = container.getObject("dao3");
+        assertSame(dao3, container.getObject(UserDao.class));
+        assertSame(dao1, container.getObject(UserDao.class, "mysql"));
+        assertSame(dao2, container.getObject(UserDao.class, "redis"));
+        assertSame(dao2, container.getObject(UserDao.class, "cache"));
+        UserServiceImpl c1 = container.getObject("c1");
+        assertSame(dao2, c1.getUserDao());
+        UserServiceImpl c2 = container.getObject("c2");
+        assertSame(dao3, c2.getUserDao());
+        assertEquals("world", container.getObject(String.class));
+    }
+
+    /**
+     * 延迟加载
+     */
+    @Test
+    public void test16()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test16.json");
+        ContainerFactory factory = new JsonContainerFactory(inputStream);
+        Container container = factory.create();
+
+        CounterImpl.instances = 0;
+        Counter c1 = container.getObject("c1");
+        Counter c2 = container.getObject("c2");
+        assertSame(c1, container.getObject("c1"));
+        assertEquals(0, CounterImpl.instances);
+        assertEquals(10, c1.next());
+        assertEquals(11, c1.next());
+        assertEquals(1, CounterImpl.instances);
+        assertEquals(100, c2.next());
+        assertEquals(2, CounterImpl.instances);
+        assertSame(c1, container.getObject(Counter.class, "lazy"));
+
+        Supplier<Counter> c3 = container.getObject("c3");
+        assertEquals(2, CounterImpl.instances);
+        assertEquals(1000, c3.get().next());
+        assertSame(c3.get(), c3.get());
+        assertEquals(3, CounterImpl.instances);
+    }
+
+    /**
+     * 对象池
+     */
+    @Test
+    public void test17()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test17.json");
+        ContainerFactory factory = new JsonContainerFactory(inputStream);
+        Container container = factory.create();
+
+        StringBuilder c11 = container.getObject("c1");
+        StringBuilder c12 = container.getObject("c1");
+        assertNotSame(c11, c12);
+        c11.append("hello");
+        container.releaseObject("c1", c11);
+        StringBuilder c13 = container.getObject("c1");
+        assertSame(c11, c13);
+        assertEquals("", c13.toString());
+
+        StringBuilder c21 = container.getObject("c2");
+        assertEquals("byx", c21.toString());
+        container.releaseObject("c2", c21);
+        StringBuilder c22 = container.getObject("c2");
+        assertSame(c21, c22);
+        assertEquals("byx", c22.toString());
+
+        String c3 = container.getObject("c3");
+        container.releaseObject("c3", c3);
+        assertSame(c3, container.getObject("c3"));
+    }
+
+    /**
+     * 常量折叠
+     */
+    @Test
+    public void test18()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test18.json");
+        ContainerFactory factory = new JsonContainerFactory(inputStream);
+        Container container = factory.create();
+
+        List<Object> c1 = container.getObject("c1");
+        assertEquals(List.of(1, 2, List.of("a", "b")), c1);
+        assertSame(c1, container.getObject("c1"));
+        assertEquals(List.class, container.getType("c1"));
+        assertThrows(UnsupportedOperationException.class, () -> c1.add(3));
+        List<Integer> c21 = container.getObject("c2");
+        List<Integer> c22 = container.getObject("c2");
+        assertNotSame(c21, c22);
+        c21.add(4);
+        assertEquals(List.of(1, 2, 3, 4), c21);
+        int c3 = container.getObject("c3");
+        assertEquals(3, c3);
+        Map<String, Object> c4 = container.getObject("c4");
+        assertEquals(Map.of("k1", 1, "k2", Set.of(2)), c4);
+        assertNotSame(container.getObject("c5"), container.getObject("c5"));
+    }
+
+    /**
+     * 集合类型
+     */
+    @Test
+    public void test19()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test19.json");
+        ContainerFactory factory = new JsonContainerFactory(inputStream);
+        Container container = factory.create();
+
+        List<Integer> c1 = container.getObject("c1");
+        assertTrue(c1 instanceof LinkedList);
+        assertEquals(List.of(3, 1, 2), c1);
+        Set<String> c2 = container.getObject("c2");
+        assertTrue(c2 instanceof TreeSet);
+        assertEquals(List.of("a", "b", "c"), new ArrayList<>(c2));
+        Map<String, Integer> c3 = container.getObject("c3");
+        assertTrue(c3 instanceof TreeMap);
+        assertEquals(List.of("k1", "k2", "k3"), new ArrayList<>(c3.keySet()));
+        Map<String, Integer> c4 = container.getObject("c4");
+        assertEquals(List.of("z", "y", "x", "w"), new ArrayList<>(c4.keySet()));
+        Set<String> c5 = container.getObject("c5");
+        assertEquals(List.of("z", "y", "x", "w"), new ArrayList<>(c5));
+        List<Object> c6 = container.getObject("c6");
+        assertEquals("hello", c6.get(1).toString());
+        assertThrows(UnsupportedOperationException.class, () -> c6.add(1));
+        List<Object> c7 = container.getObject("c7");
+        assertEquals(List.of(1, 2), c7);
+        assertThrows(UnsupportedOperationException.class, () -> c7.add(1));
+        // 没有public (int)构造函数的子类使用默认构造函数
+        List<Object> c8 = container.getObject("c8");
+        assertTrue(c8 instanceof PlainList);
+        assertEquals(List.of(1, 2), c8);
+        Set<Object> c9 = container.getObject("c9");
+        assertTrue(c9 instanceof PlainSet);
+        assertEquals(Set.of(1, 2), c9);
+    }
+
+    /**
+     * 数值字面量
+     */
+    @Test
+    public void test20()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test20.json");
+        ContainerFactory factory = new JsonContainerFactory(inputStream);
+        Container container = factory.create();
+
+        long c1 = container.getObject("c1");
+        assertEquals(10000000000L, c1);
+        long c2 = container.getObject("c2");
+        assertEquals(5L, c2);
+        float c3 = container.getObject("c3");
+        assertEquals(1.5f, c3);
+        double c4 = container.getObject("c4");
+        assertEquals(2.0, c4);
+        BigDecimal c5 = container.getObject("c5");
+        assertEquals(new BigDecimal("0.10000000000000000001"), c5);
+        BigDecimal c6 = container.getObject("c6");
+        assertEquals(new BigDecimal("12.50"), c6);
+        List<Object> c7 = container.getObject("c7");
+        assertEquals(List.of(1, 2L, 3.0f), c7);
+        String c8 = container.getObject("c8");
+        assertEquals("5000000000", c8);
+    }
+
+    @Test
+    public void test21()
+    {
+        Container parent = new ByxContainer();
+        parent.addComponent("c1", Component.value("shared"));
+        parent.addComponent("c2", Component.constructor(StringBuilder.class).singleton());
+
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test21.json");
+        JsonContainerFactory factory = new JsonContainerFactory(inputStream);
+        Container t1 = factory.create(parent);
+        Container t2 = factory.create(parent);
+
+        assertEquals("shared", parent.getObject("c1"));
+        assertEquals("tenant", t1.getObject("c1"));
+        assertSame(parent.getObject("c2"), t1.getObject("c2"));
+        assertSame(t1.getObject("c2"), t2.getObject("c2"));
+        List<Object> c3 = t1.getObject("c3");
+        assertEquals("tenant", c3.get(0));
+        assertSame(parent.getObject("c2"), c3.get(1));
+        assertNotSame(t1.getObject("c3"), t2.getObject("c3"));
+        assertThrows(ByxContainerException.class, () -> parent.getObject("c3"));
+    }
+
+    @Test
+    public void test22()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test22.json");
+        ContainerFactory factory = new JsonContainerFactory(inputStream);
+        Container container = factory.create();
+
+        assertEquals("hello", container.getObject("c1"));
+        assertEquals("overridden", container.getObject("c2"));
+        assertEquals("overridden", container.getObject("c3").toString());
+        assertEquals("hello", container.getObject("c4").toString());
+        assertEquals(StringBuilder.class, container.getType("c4"));
+    }
+
+    @Test
+    public void test23() throws IOException
+    {
+        Path dir = Files.createTempDirectory("byx");
+        Path config = dir.resolve("test23.json");
+        Files.write(dir.resolve("common.json"),
+                "{\"components\": {\"c1\": \"你好\"}}".getBytes(StandardCharsets.UTF_8));
+        Files.write(config,
+                "\uFEFF{\"import\": \"common.json\", \"components\": {\"c2\": \"世界\"}}".getBytes(StandardCharsets.UTF_8));
+
+        Container container = new JsonContainerFactory(config).create();
+        assertEquals("你好", container.getObject("c1"));
+        assertEquals("世界", container.getObject("c2"));
+
+        Files.write(config, new byte[]{'{', (byte) 0xC3, '}'});
+        assertThrows(ByxContainerException.class, () -> new JsonContainerFactory(config));
+        assertThrows(ByxContainerException.class, () -> new JsonContainerFactory(dir.resolve("notExist.json")));
+
+        // 导入的文件在其他线程中读取，类路径资源仍然使用调用者的上下文类加载器查找
+        Path cp = Files.createDirectories(dir.resolve("cp"));
+        Files.write(cp.resolve("a.json"),
+                "{\"import\": [\"classpath:b.json\", \"classpath:c.json\"], \"components\": {\"c1\": \"a\"}}".getBytes(StandardCharsets.UTF_8));
+        Files.write(cp.resolve("b.json"), "{\"components\": {\"c2\": \"b\"}}".getBytes(StandardCharsets.UTF_8));
+        Files.write(cp.resolve("c.json"), "{\"components\": {\"c3\": \"c\"}}".getBytes(StandardCharsets.UTF_8));
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{cp.toUri().toURL()}, original))
+        {
+            Thread.currentThread().setContextClassLoader(loader);
+            Container c = new JsonContainerFactory(new ByteArrayInputStream(
+                    "{\"import\": \"classpath:a.json\", \"components\": {}}".getBytes(StandardCharsets.UTF_8))).create();
+            assertEquals("a", c.getObject("c1"));
+            assertEquals("b", c.getObject("c2"));
+            assertEquals("c", c.getObject("c3"));
+        }
+        finally
+        {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void test24() throws InterruptedException
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test24.json");
+        JsonContainerFactory factory = new JsonContainerFactory(inputStream);
+        assertThrows(ByxContainerException.class, factory::create);
+
+        factory.setLazyParsing(true);
+        Container container = factory.create();
+        assertEquals("hello", container.getObject("c2").toString());
+        assertSame(container.getObject("c2"), container.getObject("c2"));
+        assertEquals(List.of(1, 2, 3), container.getObject("c4"));
+        assertEquals(StringBuilder.class, container.getType("c2"));
+        assertThrows(ByxContainerException.class, () -> container.getObject("c3"));
+
+        Container c = factory.create();
+        ComponentKey k = c.getKey("c4");
+        Object[] results = new Object[8];
+        Thread[] threads = new Thread[results.length];
+        for (int i = 0; i < threads.length; ++i)
+        {
+            int index = i;
+            threads[i] = new Thread(() -> results[index] = c.getObject(k));
+            threads[i].start();
+        }
+        for (Thread t : threads)
+        {
+            t.join();
+        }
+        for (Object r : results)
+        {
+            assertSame(results[0], r);
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package byx.container.test;
+
+import byx.container.component.Component;
+import byx.container.exception.ByxContainerException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static byx.container.component.Component.*;
+
+public class LazyComponentTest
+{
+    public interface Service
+    {
+        String hello(String name);
+    }
+
+    public static class ServiceImpl implements Service
+    {
+        public static int count = 0;
+
+        public ServiceImpl()
+        {
+            count++;
+        }
+
+        @Override
+        public String hello(String name)
+        {
+            if (name == null) throw new IllegalArgumentException();
+            return "hello " + name;
+        }
+    }
+
+    @Test
+    public void test()
+    {
+        ServiceImpl.count = 0;
+        Component c1 = constructor(ServiceImpl.class).lazy(Service.class).singleton();
+        Service s = (Service) c1.create();
+        assertEquals(0, ServiceImpl.count);
+        assertEquals(Service.class, c1.getType());
+        assertEquals("hello byx", s.hello("byx"));
+        assertEquals("hello XiaoMing", s.hello("XiaoMing"));
+        assertEquals(1, ServiceImpl.count);
+        assertSame(s, c1.create());
+        assertThrows(IllegalArgumentException.class, () -> s.hello(null));
+
+        Component c2 = staticFactory(List.class, "of", value(1), value(2)).lazy();
+        List<?> list = (List<?>) c2.create();
+        assertEquals(List.class, c2.getType());
+        assertEquals(2, list.size());
+        assertSame(c2.create().getClass(), list.getClass());
+
+        assertThrows(ByxContainerException.class, () -> constructor(ServiceImpl.class).lazy().create());
+        assertThrows(ByxContainerException.class, () -> value(null).lazy().create());
+    }
+
+    @Test
+    public void testObjectMethods()
+    {
+        ServiceImpl.count = 0;
+        Component c = constructor(ServiceImpl.class).lazy(Service.class);
+        Service s1 = (Service) c.create();
+        Service s2 = (Service) c.create();
+        assertEquals(s1, s1);
+        assertNotEquals(s1, s2);
+        assertEquals(System.identityHashCode(s1), s1.hashCode());
+        assertTrue(s1.toString().startsWith(Service.class.getName() + "@"));
+        Set<Service> set = new HashSet<>(List.of(s1, s2));
+        assertEquals(2, set.size());
+        assertEquals(0, ServiceImpl.count);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSupplier()
+    {
+        ServiceImpl.count = 0;
+        Component c = constructor(ServiceImpl.class).supplier();
+        Supplier<Object> supplier = (Supplier<Object>) c.create();
+        assertEquals(Supplier.class, c.getType());
+        assertEquals(0, ServiceImpl.count);
+        assertEquals(ServiceImpl.class, supplier.get().getClass());
+        assertSame(supplier.get(), supplier.get());
+        assertEquals(1, ServiceImpl.count);
+        assertNotSame(supplier.get(), ((Supplier<Object>) c.create()).get());
+        assertEquals(2, ServiceImpl.count);
+    }
+}
@@ -1,6 +1,7 @@
 package byx.container.test;
 
 import byx.container.component.Component;
+import byx.container.component.ValueComponent;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
@@ -31,4 +32,19 @@ public class ListComponentTest
         assertEquals(List.of(1, 2, "hello"), l4);
         assertEquals(List.class, c4.getType());
     }
+
+    @Test
+    public void testFold()
+    {
+        Component c1 = list(value(1), value(2), value("hello")).fold();
+        assertTrue(c1 instanceof ValueComponent);
+        assertEquals(List.of(1, 2, "hello"), c1.create());
+        assertSame(c1.create(), c1.create());
+        assertEquals(List.class, c1.getType());
+        assertThrows(UnsupportedOperationException.class, () -> ((List<?>) c1.create()).clear());
+
+        Component c2 = list(value(1), constructor(String.class)).fold();
+        assertFalse(c2 instanceof ValueComponent);
+        assertNotSame(c2.create(), c2.create());
+    }
 }
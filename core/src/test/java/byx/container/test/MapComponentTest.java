@@ -0,0 +1,57 @@
+package byx.container.test;
+
+import byx.container.component.Component;
+import byx.container.component.ValueComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static byx.container.component.Component.*;
+
+public class MapComponentTest
+{
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test()
+    {
+        Map<Component, Component> componentMap = new HashMap<>();
+        componentMap.put(value("k1"), value(123));
+        componentMap.put(value("k2"), value(456));
+        componentMap.put(value("k3"), value(789));
+        Component c = map(componentMap);
+        Map<String, Integer> map = (Map<String, Integer>) c.create();
+        assertEquals(123, map.get("k1"));
+        assertEquals(456, map.get("k2"));
+        assertEquals(789, map.get("k3"));
+        assertEquals(Map.class, c.getType());
+    }
+
+    @Test
+    public void testFold()
+    {
+        Component c1 = map(Map.of(value("k1"), value(123))).fold();
+        assertTrue(c1 instanceof ValueComponent);
+        assertEquals(Map.of("k1", 123), c1.create());
+        assertEquals(Map.class, c1.getType());
+        assertFalse(map(Map.of(value("k1"), constructor(String.class))).fold() instanceof ValueComponent);
+        assertFalse(map(Map.of(constructor(String.class), value(123))).fold() instanceof ValueComponent);
+    }
+
+    @Test
+    public void testFactory()
+    {
+        Component[] keys = {value("k3"), value("k1"), value("k2")};
+        Component[] values = {value(3), value(1), constructor(String.class)};
+        Component c1 = map(keys, values);
+        assertEquals(List.of("k3", "k1", "k2"), new ArrayList<>(((Map<?, ?>) c1.create()).keySet()));
+        Component c2 = map(n -> new TreeMap<>(), keys, values);
+        Map<?, ?> m2 = (Map<?, ?>) c2.create();
+        assertTrue(m2 instanceof TreeMap);
+        assertEquals(List.of("k1", "k2", "k3"), new ArrayList<>(m2.keySet()));
+    }
+}
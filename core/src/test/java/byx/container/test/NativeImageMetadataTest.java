@@ -0,0 +1,47 @@
+package byx.container.test;
+
+import byx.container.factory.json.JsonContainerFactory;
+import byx.container.factory.json.NativeImageMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NativeImageMetadataTest
+{
+    @Test
+    public void test() throws Exception
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test25.json");
+        NativeImageMetadata metadata = NativeImageMetadata.of(new JsonContainerFactory(inputStream));
+
+        String reflect = metadata.toReflectConfig();
+        assertTrue(reflect.contains("\"name\": \"java.lang.StringBuilder\",\n    \"queryAllPublicConstructors\": true"));
+        assertTrue(reflect.contains("{\"name\": \"<init>\", \"parameterTypes\": [\"java.lang.String\"]}"));
+        assertTrue(reflect.contains("{\"name\": \"setLength\", \"parameterTypes\": [\"int\"]}"));
+        assertTrue(reflect.contains("{\"name\": \"of\", \"parameterTypes\": [\"java.lang.Object[]\"]}"));
+        assertTrue(reflect.contains("{\"name\": \"toUpperCase\", \"parameterTypes\": []}"));
+        assertTrue(reflect.contains("{\"name\": \"getTime\", \"parameterTypes\": []}"));
+        assertTrue(reflect.contains("{\"name\": \"setTime\", \"parameterTypes\": [\"long\"]}"));
+        assertTrue(reflect.contains("\"name\": \"java.util.TreeSet\""));
+        assertTrue(reflect.contains("{\"name\": \"unmodifiableList\", \"parameterTypes\": [\"java.util.List\"]}"));
+        assertTrue(reflect.contains("\"name\": \"java.lang.CharSequence\"\n"));
+        assertFalse(reflect.contains("postProcess"));
+        assertTrue(reflect.indexOf("java.lang.String\"") < reflect.indexOf("java.lang.StringBuilder\""));
+
+        assertEquals("[\n  {\"interfaces\": [\"java.util.List\"]}\n]\n", metadata.toProxyConfig());
+        assertEquals(List.of("method \"length\""), metadata.getUnresolved());
+
+        Path dir = Files.createTempDirectory("byx");
+        metadata.write(dir);
+        assertEquals(reflect, Files.readString(dir.resolve("reflect-config.json")));
+        assertEquals(metadata.toProxyConfig(), Files.readString(dir.resolve("proxy-config.json")));
+        Files.delete(dir.resolve("reflect-config.json"));
+        Files.delete(dir.resolve("proxy-config.json"));
+        Files.delete(dir);
+    }
+}
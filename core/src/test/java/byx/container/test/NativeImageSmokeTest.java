@@ -0,0 +1,35 @@
+package byx.container.test;
+
+import byx.container.Container;
+import byx.container.factory.json.JsonContainerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 在native profile中以native-image运行，验证生成的可达性元数据
+ */
+public class NativeImageSmokeTest
+{
+    @Test
+    public void test()
+    {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test25.json");
+        Container container = new JsonContainerFactory(inputStream).create();
+
+        assertEquals("hel", container.getObject("sb").toString());
+        assertEquals(List.of(1, 2), container.getObject("numbers"));
+        assertEquals("BYX", container.getObject("upper"));
+        assertEquals(0L, container.<Date>getObject("date").getTime());
+        List<Integer> lazyList = container.getObject("lazyList");
+        lazyList.add(1);
+        assertEquals(1, lazyList.size());
+        assertEquals(List.of(1, 2, 3), List.copyOf(container.<Set<Integer>>getObject("sorted")));
+        assertEquals(List.of("byx"), container.getObject("immutable"));
+    }
+}
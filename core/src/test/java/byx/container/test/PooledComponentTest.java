@@ -0,0 +1,94 @@
+package byx.container.test;
+
+import byx.container.component.PoolMetrics;
+import byx.container.component.PooledComponent;
+import byx.container.exception.ByxContainerException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static byx.container.component.Component.*;
+
+public class PooledComponentTest
+{
+    @Test
+    public void test()
+    {
+        PooledComponent c = constructor(StringBuilder.class).pooled(2, obj -> ((StringBuilder) obj).setLength(0));
+        assertEquals(StringBuilder.class, c.getType());
+
+        StringBuilder s1 = (StringBuilder) c.create();
+        StringBuilder s2 = (StringBuilder) c.acquire();
+        StringBuilder s3 = (StringBuilder) c.create();
+        assertNotSame(s1, s2);
+        assertEquals(3, c.getMetrics().getInUse());
+        s1.append("hello");
+        c.release(s1);
+        c.release(s2);
+        c.release(s3);
+
+        PoolMetrics metrics = c.getMetrics();
+        assertEquals(0, metrics.getHits());
+        assertEquals(3, metrics.getMisses());
+        assertEquals(2, metrics.getIdle());
+        assertEquals(0, metrics.getInUse());
+        assertEquals(3, metrics.getHighWaterMark());
+
+        StringBuilder s4 = (StringBuilder) c.create();
+        StringBuilder s5 = (StringBuilder) c.create();
+        assertTrue((s4 == s1 || s4 == s2) && (s5 == s1 || s5 == s2) && s4 != s5);
+        assertEquals("", s1.toString());
+        c.release(s4);
+
+        metrics = c.getMetrics();
+        assertEquals(2, metrics.getHits());
+        assertEquals(3, metrics.getMisses());
+        assertEquals(1, metrics.getIdle());
+        assertEquals(1, metrics.getInUse());
+        assertEquals(3, metrics.getHighWaterMark());
+
+        assertThrows(ByxContainerException.class, () -> value("hello").pooled(0));
+    }
+
+    @Test
+    public void testDoubleRelease()
+    {
+        PooledComponent c = constructor(StringBuilder.class).pooled(2);
+        StringBuilder s1 = (StringBuilder) c.create();
+        StringBuilder s2 = (StringBuilder) c.create();
+
+        // 重复归还和归还不是从池中借出的对象都被忽略
+        c.release(s1);
+        c.release(s1);
+        c.release(new StringBuilder());
+        PoolMetrics metrics = c.getMetrics();
+        assertEquals(1, metrics.getIdle());
+        assertEquals(1, metrics.getInUse());
+
+        StringBuilder s3 = (StringBuilder) c.create();
+        StringBuilder s4 = (StringBuilder) c.create();
+        assertSame(s1, s3);
+        assertNotSame(s3, s4);
+        assertNotSame(s2, s4);
+        assertEquals(3, c.getMetrics().getInUse());
+    }
+
+    @Test
+    public void testFullPool()
+    {
+        List<Object> reset = new ArrayList<>();
+        PooledComponent c = constructor(StringBuilder.class).pooled(1, reset::add);
+        StringBuilder s1 = (StringBuilder) c.create();
+        StringBuilder s2 = (StringBuilder) c.create();
+        c.release(s1);
+        c.release(s2);
+
+        // 池已满时丢弃对象，不执行重置处理器
+        assertEquals(1, reset.size());
+        assertSame(s1, reset.get(0));
+        assertEquals(1, c.getMetrics().getIdle());
+        assertEquals(0, c.getMetrics().getInUse());
+    }
+}
@@ -0,0 +1,34 @@
+package byx.container.test;
+
+import byx.container.component.Component;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static byx.container.component.Component.*;
+
+public class QualifiedComponentTest
+{
+    @Test
+    public void test()
+    {
+        Component c1 = value("hello");
+        assertEquals(Set.of(), c1.getQualifiers());
+        assertFalse(c1.isPrimary());
+        assertEquals(0, c1.getPriority());
+
+        Component c2 = constructor(StringBuilder.class, value("hi")).qualify("a", "b").primary().priority(10);
+        assertEquals(Set.of("a", "b"), c2.getQualifiers());
+        assertTrue(c2.isPrimary());
+        assertEquals(10, c2.getPriority());
+        assertEquals(StringBuilder.class, c2.getType());
+        assertEquals("hi", c2.create().toString());
+
+        Component c3 = c2.qualify("c").singleton();
+        assertEquals(Set.of("a", "b", "c"), c3.getQualifiers());
+        assertTrue(c3.isPrimary());
+        assertEquals(10, c3.getPriority());
+        assertSame(c3.create(), c3.create());
+    }
+}
@@ -21,5 +21,12 @@ public class ReferenceComponentTest
         Component c2 = reference(container, "c2");
         assertEquals(1234, c2.create());
         assertEquals(Integer.class, c2.getType());
+
+        // 通过引用获取的池化对象可以通过引用归还
+        container.addComponent("c3", constructor(StringBuilder.class).pooled(1));
+        Component c3 = reference(container, "c3");
+        Object obj = c3.create();
+        c3.release(obj);
+        assertSame(obj, c3.create());
     }
 }
@@ -0,0 +1,148 @@
+package byx.container.test;
+
+import byx.container.exception.ByxContainerException;
+import byx.container.exception.LookupFailedException;
+import byx.container.util.ReflectUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReflectUtilsTest
+{
+    public static class Overloads
+    {
+        public static String f(Object o) { return "Object"; }
+        public static String f(CharSequence s) { return "CharSequence"; }
+        public static String f(int i) { return "int"; }
+        public static String g(Object a, String b) { return "Object,String"; }
+        public static String g(String a, Object b) { return "String,Object"; }
+        public static String h(long l) { return "long"; }
+        public static String h(Integer i) { return "Integer"; }
+    }
+
+    @Test
+    public void test()
+    {
+        assertTrue(ReflectUtils.isPrimitive(int.class));
+        assertFalse(ReflectUtils.isPrimitive(Integer.class));
+        assertFalse(ReflectUtils.isPrimitive(String.class));
+        assertEquals(Integer.class, ReflectUtils.getWrap(int.class));
+        assertEquals(String.class, ReflectUtils.getWrap(String.class));
+        assertEquals(boolean.class, ReflectUtils.getPrimitive(Boolean.class));
+        assertEquals(String.class, ReflectUtils.getPrimitive(String.class));
+
+        assertTrue(ReflectUtils.isAssignable(Object.class, String.class));
+        assertTrue(ReflectUtils.isAssignable(CharSequence.class, StringBuilder.class));
+        assertTrue(ReflectUtils.isAssignable(Object.class, Runnable.class));
+        assertTrue(ReflectUtils.isAssignable(Object[].class, String[].class));
+        assertTrue(ReflectUtils.isAssignable(int.class, Integer.class));
+        assertTrue(ReflectUtils.isAssignable(Number.class, int.class));
+        assertFalse(ReflectUtils.isAssignable(String.class, Object.class));
+        assertFalse(ReflectUtils.isAssignable(long.class, int.class));
+        assertFalse(ReflectUtils.isAssignable(String[].class, Object[].class));
+
+        assertEquals("123", ReflectUtils.call(String.class, "valueOf", 123));
+        assertEquals("true", ReflectUtils.call(String.class, "valueOf", true));
+        assertEquals(3, (int) ReflectUtils.call("hello", "indexOf", "lo"));
+        assertEquals(String.class, ReflectUtils.getReturnType(String.class, "substring", int.class));
+
+        List<?> list = ReflectUtils.create(ArrayList.class, 10);
+        assertTrue(list.isEmpty());
+        assertThrows(RuntimeException.class, () -> ReflectUtils.create(ArrayList.class, "abc"));
+        assertThrows(RuntimeException.class, () -> ReflectUtils.call(String.class, "notExist"));
+    }
+
+    @Test
+    public void testOverload()
+    {
+        for (int i = 0; i < 2; ++i)
+        {
+            assertEquals("CharSequence", ReflectUtils.call(Overloads.class, "f", "hello"));
+            assertEquals("CharSequence", ReflectUtils.call(Overloads.class, "f", new StringBuilder()));
+            assertEquals("Object", ReflectUtils.call(Overloads.class, "f", 123));
+            assertEquals(String.class, ReflectUtils.getReturnType(Overloads.class, "f", int.class));
+            assertEquals("Object,String", ReflectUtils.call(Overloads.class, "g", 1, "b"));
+            assertEquals("Integer", ReflectUtils.call(Overloads.class, "h", 1));
+            assertEquals("long", ReflectUtils.call(Overloads.class, "h", 1L));
+
+            RuntimeException e = assertThrows(RuntimeException.class, () -> ReflectUtils.call(Overloads.class, "g", "a", "b"));
+            assertTrue(e.getCause().getMessage().startsWith("Ambiguous overloads"));
+            assertThrows(RuntimeException.class, () -> ReflectUtils.call(Overloads.class, "f", 1, 2));
+        }
+    }
+
+    @Test
+    public void testLookupFailure()
+    {
+        ByxContainerException e1 = assertThrows(ByxContainerException.class, () -> ReflectUtils.call(String.class, "notExist", 1));
+        ByxContainerException e2 = assertThrows(ByxContainerException.class, () -> ReflectUtils.call(String.class, "notExist", 1));
+        assertTrue(e1.getMessage().startsWith("Cannot invoke static method \"notExist\""));
+        assertTrue(e1.getCause() instanceof LookupFailedException);
+        assertSame(e1.getCause(), e2.getCause());
+        assertEquals(0, e1.getCause().getStackTrace().length);
+
+        ByxContainerException e3 = new ByxContainerException(() -> { throw new AssertionError(); }, null);
+        assertThrows(AssertionError.class, e3::getMessage);
+        assertEquals("lazy", new ByxContainerException(() -> "lazy", null).getMessage());
+    }
+
+    public static class Payload
+    {
+    }
+
+    /**
+     * 自己定义Payload类，不委托给父类加载器
+     */
+    private static class PayloadLoader extends ClassLoader
+    {
+        PayloadLoader()
+        {
+            super(ReflectUtilsTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+        {
+            if (!name.equals(Payload.class.getName())) return super.loadClass(name, resolve);
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class"))
+            {
+                byte[] bytes = in.readAllBytes();
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+            catch (IOException e)
+            {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+
+    @Test
+    public void testClassLoaderUnloading() throws Exception
+    {
+        WeakReference<ClassLoader> ref = callWithPayload();
+        for (int i = 0; i < 50 && ref.get() != null; ++i)
+        {
+            System.gc();
+            Thread.sleep(20);
+        }
+        // 缓存的决议结果不能让ArrayList的元数据引用子类加载器中的类
+        assertNull(ref.get());
+    }
+
+    private static WeakReference<ClassLoader> callWithPayload() throws Exception
+    {
+        ClassLoader loader = new PayloadLoader();
+        Object payload = loader.loadClass(Payload.class.getName()).getConstructor().newInstance();
+        assertNotSame(Payload.class, payload.getClass());
+        List<Object> list = new ArrayList<>();
+        assertEquals(true, ReflectUtils.call(list, "add", payload));
+        assertEquals(true, ReflectUtils.call(list, "add", payload));
+        return new WeakReference<>(loader);
+    }
+}
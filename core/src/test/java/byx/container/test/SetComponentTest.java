@@ -1,12 +1,16 @@
 package byx.container.test;
 
 import byx.container.component.Component;
+import byx.container.component.ValueComponent;
 import org.junit.jupiter.api.Test;
 import java.util.Collections;
 import java.util.Set;
+import static byx.container.component.Component.constructor;
 import static byx.container.component.Component.set;
 import static byx.container.component.Component.value;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SetComponentTest
 {
@@ -31,4 +35,14 @@ public class SetComponentTest
         assertEquals(Set.of(123, "hello", 456), s4);
         assertEquals(Set.class, c4.getType());
     }
+
+    @Test
+    public void testFold()
+    {
+        Component c1 = set(value(1), value(2), value(2)).fold();
+        assertTrue(c1 instanceof ValueComponent);
+        assertEquals(Set.of(1, 2), c1.create());
+        assertEquals(Set.class, c1.getType());
+        assertFalse(set(value(1), constructor(String.class)).fold() instanceof ValueComponent);
+    }
 }
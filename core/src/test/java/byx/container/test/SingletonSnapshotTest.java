@@ -0,0 +1,260 @@
+package byx.container.test;
+
+import byx.container.ByxContainer;
+import byx.container.Container;
+import byx.container.component.Component;
+import byx.container.exception.ByxContainerException;
+import byx.container.factory.json.JsonContainerFactory;
+import byx.container.snapshot.SingletonSnapshot;
+import byx.container.util.HashUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingletonSnapshotTest
+{
+    public static class Rules implements Serializable
+    {
+        public static int built;
+        private final List<Integer> table = new ArrayList<>();
+
+        public static Rules build(Integer n)
+        {
+            ++built;
+            Rules rules = new Rules();
+            for (int i = 0; i < n; ++i)
+            {
+                rules.table.add(i * i);
+            }
+            return rules;
+        }
+
+        public List<Integer> getTable()
+        {
+            return table;
+        }
+    }
+
+    private static Container create(String json, SingletonSnapshot snapshot)
+    {
+        JsonContainerFactory factory = new JsonContainerFactory(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        factory.setSnapshot(snapshot);
+        return factory.create();
+    }
+
+    @Test
+    public void testJson() throws Exception
+    {
+        String json;
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test26.json"))
+        {
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        Path dir = Files.createTempDirectory("byx");
+        Path file = dir.resolve("singletons.snapshot");
+        Rules.built = 0;
+
+        SingletonSnapshot s1 = new SingletonSnapshot(file);
+        Container c1 = create(json, s1);
+        assertEquals(List.of(0, 1, 4), c1.<Rules>getObject("rules").getTable());
+        assertSame(c1.getObject("rules"), c1.getObject("rules"));
+        c1.getObject("plain");
+        assertEquals(2, Rules.built);
+        assertTrue(s1.getRestored().isEmpty());
+        s1.save();
+
+        // 配置不变：从快照恢复，不再调用工厂方法
+        SingletonSnapshot s2 = new SingletonSnapshot(file).allow(ArrayList.class);
+        Container c2 = create(json, s2);
+        assertEquals(List.of(0, 1, 4), c2.<Rules>getObject("rules").getTable());
+        assertSame(c2.getObject("rules"), c2.getObject("rules"));
+        assertEquals(Rules.class, c2.getType("rules"));
+        assertEquals(2, Rules.built);
+        c2.getObject("plain");
+        c2.getObject("unused");
+        assertEquals(4, Rules.built);
+        assertEquals(Set.of("rules"), s2.getRestored());
+        s2.save();
+
+        // 配置变化：快照失效，重新创建
+        SingletonSnapshot s3 = new SingletonSnapshot(file);
+        Container c3 = create(json.replace("[3]", "[4]"), s3);
+        assertEquals(List.of(0, 1, 4, 9), c3.<Rules>getObject("rules").getTable());
+        assertEquals(5, Rules.built);
+        assertTrue(s3.getRestored().isEmpty());
+
+        // 快照损坏：照常创建
+        Files.write(file, new byte[]{1, 2, 3});
+        SingletonSnapshot s4 = new SingletonSnapshot(file);
+        Container c4 = create(json, s4);
+        assertEquals(List.of(0, 1, 4), c4.<Rules>getObject("rules").getTable());
+        assertEquals(6, Rules.built);
+
+        Files.delete(file);
+        Files.delete(dir);
+    }
+
+    @Test
+    public void testSelfContained() throws Exception
+    {
+        Path dir = Files.createTempDirectory("byx");
+        SingletonSnapshot snapshot = new SingletonSnapshot(dir.resolve("singletons.snapshot"));
+        String rules = "{\"factory\": \"byx.container.test.SingletonSnapshotTest$Rules\", \"method\": \"build\", ";
+
+        // 只引用局部组件的定义可以保存到快照
+        Container c = create("{\"components\": {\"rules\": " + rules
+                + "\"parameters\": [{\"ref\": \"n\"}], \"locals\": {\"n\": 2}, \"snapshot\": true}}}", snapshot);
+        assertEquals(List.of(0, 1), c.<Rules>getObject("rules").getTable());
+
+        // 恢复的对象中注入的其他组件会是副本，后置处理器也不会执行，因此不允许保存到快照
+        assertThrows(ByxContainerException.class, () -> create("{\"components\": {\"n\": 2, \"rules\": " + rules
+                + "\"parameters\": [{\"ref\": \"n\"}], \"snapshot\": true}}}", snapshot));
+        assertThrows(ByxContainerException.class, () -> create("{\"components\": {\"n\": 2, \"rules\": " + rules
+                + "\"parameters\": [{\"type\": \"java.lang.Integer\"}], \"snapshot\": true}}}", snapshot));
+        assertThrows(ByxContainerException.class, () -> create("{\"components\": {\"rules\": " + rules
+                + "\"parameters\": [2], \"postProcessor\": {\"class\": \"java.lang.Object\"}, \"snapshot\": true}}}", snapshot));
+
+        Files.delete(dir);
+    }
+
+    @Test
+    public void testContainer() throws Exception
+    {
+        Path dir = Files.createTempDirectory("byx");
+        Path file = dir.resolve("singletons.snapshot");
+
+        SingletonSnapshot s1 = new SingletonSnapshot(file);
+        s1.load("v1");
+        Container c1 = new ByxContainer();
+        c1.addComponent("list", s1.wrap("list", Component.constructor(ArrayList.class)));
+        c1.<List<String>>getObject("list").add("hello");
+        c1.addComponent("thread", s1.wrap("thread", Component.constructor(Thread.class)));
+        c1.getObject("thread");
+        assertThrows(ByxContainerException.class, s1::save);
+        assertFalse(Files.exists(file));
+
+        SingletonSnapshot s2 = new SingletonSnapshot(file);
+        s2.load("v1");
+        Container c2 = new ByxContainer();
+        c2.addComponent("list", s2.wrap("list", Component.constructor(ArrayList.class)));
+        c2.<List<String>>getObject("list").add("hello");
+        s2.save();
+
+        SingletonSnapshot s3 = new SingletonSnapshot(file);
+        s3.load("v1");
+        Container c3 = new ByxContainer();
+        c3.addComponent("list", s3.wrap("list", Component.constructor(ArrayList.class)));
+        assertEquals(List.of("hello"), c3.getObject("list"));
+        assertEquals(Set.of("list"), s3.getRestored());
+
+        SingletonSnapshot s4 = new SingletonSnapshot(file);
+        s4.load("v2");
+        Container c4 = new ByxContainer();
+        c4.addComponent("list", s4.wrap("list", Component.constructor(ArrayList.class)));
+        assertEquals(List.of(), c4.getObject("list"));
+
+        Files.delete(file);
+        Files.delete(dir);
+    }
+
+    private static String classHash(Class<?> type) throws Exception
+    {
+        ClassLoader loader = type.getClassLoader() == null ? ClassLoader.getSystemClassLoader() : type.getClassLoader();
+        try (InputStream in = loader.getResourceAsStream(type.getName().replace('.', '/') + ".class"))
+        {
+            return HashUtils.sha256(in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testObjectGraph() throws Exception
+    {
+        Path dir = Files.createTempDirectory("byx");
+        Path file = dir.resolve("singletons.snapshot");
+
+        // 组件类型以外的类需要指定才能恢复
+        SingletonSnapshot s1 = new SingletonSnapshot(file);
+        s1.load("v1");
+        Container c1 = new ByxContainer();
+        c1.addComponent("list", s1.wrap("list", Component.constructor(ArrayList.class)));
+        c1.<List<Rules>>getObject("list").add(Rules.build(2));
+        s1.save();
+
+        SingletonSnapshot s2 = new SingletonSnapshot(file).allow(Rules.class);
+        s2.load("v1");
+        Container c2 = new ByxContainer();
+        c2.addComponent("list", s2.wrap("list", Component.constructor(ArrayList.class)));
+        assertEquals(List.of(0, 1), c2.<List<Rules>>getObject("list").get(0).getTable());
+        assertEquals(Set.of("list"), s2.getRestored());
+
+        SingletonSnapshot s3 = new SingletonSnapshot(file);
+        s3.load("v1");
+        Container c3 = new ByxContainer();
+        c3.addComponent("list", s3.wrap("list", Component.constructor(ArrayList.class)));
+        assertEquals(List.of(), c3.getObject("list"));
+        assertTrue(s3.getRestored().isEmpty());
+
+        SingletonSnapshot s4 = new SingletonSnapshot(file).allowPackages("byx.container");
+        s4.load("v1");
+        Container c4 = new ByxContainer();
+        c4.addComponent("list", s4.wrap("list", Component.constructor(ArrayList.class)));
+        assertEquals(List.of(0, 1), c4.<List<Rules>>getObject("list").get(0).getTable());
+
+        Files.delete(file);
+        Files.delete(dir);
+    }
+
+    @Test
+    public void testForgedSnapshot() throws Exception
+    {
+        Path dir = Files.createTempDirectory("byx");
+        Path file = dir.resolve("singletons.snapshot");
+
+        // 伪造的快照声明了其中所有的类并重新计算了摘要，未被允许的Rules对象仍被过滤器拒绝，组件照常创建
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(data))
+        {
+            out.writeObject(new ArrayList<>(List.of(Rules.build(1))));
+        }
+        String graphHash = HashUtils.sha256(("byx.container.test.SingletonSnapshotTest$Rules=" + classHash(Rules.class) + "\n"
+                + "java.util.ArrayList=" + classHash(ArrayList.class) + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file)))
+        {
+            out.writeInt(0x42595853);
+            out.writeInt(2);
+            out.writeUTF("v1");
+            out.writeInt(1);
+            out.writeUTF("list");
+            out.writeInt(2);
+            out.writeUTF("byx.container.test.SingletonSnapshotTest$Rules");
+            out.writeUTF("java.util.ArrayList");
+            out.writeUTF(graphHash);
+            out.writeInt(data.size());
+            data.writeTo(out);
+        }
+        SingletonSnapshot s1 = new SingletonSnapshot(file);
+        s1.load("v1");
+        Container c1 = new ByxContainer();
+        c1.addComponent("list", s1.wrap("list", Component.constructor(ArrayList.class)));
+        assertEquals(List.of(), c1.getObject("list"));
+        assertTrue(s1.getRestored().isEmpty());
+
+        Files.delete(file);
+        Files.delete(dir);
+    }
+}
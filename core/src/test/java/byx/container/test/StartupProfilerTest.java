@@ -0,0 +1,64 @@
+package byx.container.test;
+
+import byx.container.ByxContainer;
+import byx.container.Container;
+import byx.container.factory.json.JsonContainerFactory;
+import byx.container.profiler.StartupProfiler;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import static byx.container.component.Component.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupProfilerTest
+{
+    @Test
+    public void test()
+    {
+        StartupProfiler profiler = new StartupProfiler();
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("general/test22.json");
+        Container container = new JsonContainerFactory(inputStream, profiler).create();
+        assertEquals("hello", container.getObject("c4").toString());
+        assertEquals("hello", container.getObject("c4").toString());
+
+        Map<String, Long> phases = profiler.getPhaseNanos();
+        assertTrue(phases.keySet().containsAll(List.of(StartupProfiler.PHASE_READ, StartupProfiler.PHASE_PARSE,
+                StartupProfiler.PHASE_CLASS_RESOLUTION, StartupProfiler.PHASE_COMPONENT_PARSE, StartupProfiler.PHASE_CREATE)));
+
+        List<StartupProfiler.ComponentTiming> slowest = profiler.getSlowestComponents(2);
+        assertEquals(2, slowest.size());
+        assertTrue(slowest.get(0).getTotalNanos() >= slowest.get(1).getTotalNanos());
+        assertEquals(4, profiler.getSlowestComponents(100).size());
+
+        String stacks = profiler.toCollapsedStacks();
+        assertTrue(stacks.contains("read "));
+        assertTrue(stacks.contains("componentParse;c4 "));
+        assertTrue(stacks.contains("create;c4;c1 "));
+        assertFalse(stacks.contains("create;c1 "));
+        for (String line : stacks.split("\n"))
+        {
+            assertTrue(line.matches("[^ ]+ \\d+"));
+        }
+        assertTrue(profiler.toString().contains("Slowest components"));
+    }
+
+    @Test
+    public void testContainer()
+    {
+        StartupProfiler profiler = new StartupProfiler();
+        ByxContainer container = new ByxContainer();
+        container.addComponent("c1", value(1));
+        container.setProfiler(profiler);
+        container.addComponent("c2", constructor(StringBuilder.class).singleton());
+
+        assertEquals(1, (int) container.getObject("c1"));
+        assertSame(container.getObject("c2"), container.getObject(StringBuilder.class));
+        List<StartupProfiler.ComponentTiming> timings = profiler.getSlowestComponents(10);
+        assertEquals(1, timings.size());
+        assertEquals("c2", timings.get(0).getId());
+        assertEquals(0, timings.get(0).getParseNanos());
+    }
+}
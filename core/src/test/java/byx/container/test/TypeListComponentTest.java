@@ -0,0 +1,38 @@
+package byx.container.test;
+
+import byx.container.ByxContainer;
+import byx.container.Container;
+import byx.container.component.Component;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static byx.container.component.Component.*;
+
+public class TypeListComponentTest
+{
+    public interface Handler {}
+    public static class A implements Handler {}
+    public static class B implements Handler {}
+
+    @Test
+    public void test()
+    {
+        Container container = new ByxContainer();
+        container.addComponent("c1", constructor(B.class));
+        container.addComponent("c2", value("hello"));
+        container.addComponent("c3", constructor(A.class));
+
+        Component c = typeList(container, Handler.class);
+        List<?> handlers = (List<?>) c.create();
+        assertEquals(2, handlers.size());
+        assertTrue(handlers.get(0) instanceof B);
+        assertTrue(handlers.get(1) instanceof A);
+        assertEquals(List.class, c.getType());
+
+        assertEquals(List.of(), typeList(container, Double.class).create());
+        container.addComponent("c4", constructor(A.class));
+        assertEquals(3, ((List<?>) c.create()).size());
+    }
+}
@@ -0,0 +1,77 @@
+package byx.container.test;
+
+import byx.container.component.Component;
+import byx.container.component.PrimitiveValueComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static byx.container.component.Component.*;
+
+public class ValueComponentTest
+{
+    @Test
+    public void test()
+    {
+        Component c1 = value(123);
+        assertEquals(123, c1.create());
+        assertEquals(Integer.class, c1.getType());
+        Component c2 = value(3.14);
+        assertEquals(3.14, c2.create());
+        assertEquals(Double.class, c2.getType());
+        Component c3 = value("hello");
+        assertEquals("hello", c3.create());
+        assertEquals(String.class, c3.getType());
+        Component c4 = value(true);
+        assertEquals(true, c4.create());
+        assertEquals(Boolean.class, c4.getType());
+        Component c5 = value(false);
+        assertEquals(false, c5.create());
+        assertEquals(Boolean.class, c5.getType());
+        Component c6 = value(null);
+        assertNull(c6.create());
+        assertNull(c6.getType());
+    }
+
+    @Test
+    public void testPrimitive()
+    {
+        PrimitiveValueComponent c1 = intValue(123);
+        assertEquals(123, c1.create());
+        assertSame(c1.create(), c1.create());
+        assertEquals(Integer.class, c1.getType());
+        assertEquals(int.class, c1.getPrimitiveType());
+        PrimitiveValueComponent c2 = longValue(10000000000L);
+        assertEquals(10000000000L, c2.create());
+        assertEquals(Long.class, c2.getType());
+        assertEquals(long.class, c2.getPrimitiveType());
+        PrimitiveValueComponent c3 = doubleValue(3.5);
+        assertEquals(3.5, c3.create());
+        assertEquals(double.class, c3.getPrimitiveType());
+        PrimitiveValueComponent c4 = floatValue(1.25f);
+        assertEquals(1.25f, c4.create());
+        assertEquals(Float.class, c4.getType());
+        assertEquals(float.class, c4.getPrimitiveType());
+        PrimitiveValueComponent c5 = booleanValue(true);
+        assertEquals(true, c5.create());
+        assertEquals(boolean.class, c5.getPrimitiveType());
+    }
+
+    @Test
+    public void testPrimitiveOverload()
+    {
+        // 基本类型常数按基本类型决议重载：remove(int)而不是remove(Object)
+        Component list = constructor(ArrayList.class, value(List.of(10, 20, 30)));
+        assertEquals(10, instanceFactory(list, "remove", intValue(0)).create());
+        assertEquals(Object.class, instanceFactory(list, "remove", intValue(0)).getType());
+        assertEquals(false, instanceFactory(list, "remove", value(0)).create());
+        assertEquals(boolean.class, instanceFactory(list, "remove", value(0)).getType());
+
+        assertEquals("1", staticFactory(String.class, "valueOf", intValue(1)).create());
+        assertEquals("a", staticFactory(String.class, "valueOf", value('a')).create());
+        assertEquals(new StringBuilder(16).capacity(), ((StringBuilder) constructor(StringBuilder.class, intValue(16)).create()).capacity());
+        assertEquals("16", constructor(StringBuilder.class, value("16")).create().toString());
+    }
+}
@@ -0,0 +1,489 @@
+package byx.container.processor;
+
+import byx.container.annotation.ByxComponent;
+import byx.container.annotation.Factory;
+import byx.container.annotation.Id;
+import byx.container.annotation.Inject;
+import byx.container.annotation.Qualifier;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 编译时生成组件装配代码：为每个标注了ByxComponent的类和Factory方法生成直接调用构造函数、
+ * 工厂方法和setter的Component实现，并生成ComponentRegistry注册这些组件，运行时不使用反射。
+ * 注册表的类名可以通过编译选项byx.registry指定，其他处理器在之后的轮次生成的组件注册到编号递增的注册表中
+ */
+@SupportedAnnotationTypes({"byx.container.annotation.ByxComponent", "byx.container.annotation.Factory"})
+@SupportedOptions(WiringProcessor.REGISTRY_OPTION)
+public class WiringProcessor extends AbstractProcessor
+{
+    /**
+     * 指定注册表类名的编译选项
+     */
+    public static final String REGISTRY_OPTION = "byx.registry";
+
+    private static final String REGISTRY_SIMPLE_NAME = "ByxComponentRegistry";
+    private static final String REGISTRY_SERVICE = "META-INF/services/byx.container.annotation.ComponentRegistry";
+
+    /**
+     * 尚未写入注册表的组件：二进制类名 -> 注册语句，按类名排序保证生成的代码稳定
+     */
+    private final Map<String, List<String>> registrations = new TreeMap<>();
+    private final List<String> registries = new ArrayList<>();
+    private String registryName;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        if (roundEnv.processingOver())
+        {
+            if (!registries.isEmpty()) writeRegistryService();
+            return false;
+        }
+
+        boolean found = false;
+        for (Element e : roundEnv.getElementsAnnotatedWith(ByxComponent.class))
+        {
+            found = true;
+            TypeElement type = (TypeElement) e;
+            if (checkType(type) && checkClass(type))
+            {
+                generateClassComponent(type, e.getAnnotation(ByxComponent.class));
+            }
+        }
+
+        for (Element e : roundEnv.getElementsAnnotatedWith(Factory.class))
+        {
+            found = true;
+            ExecutableElement method = (ExecutableElement) e;
+            TypeElement type = (TypeElement) method.getEnclosingElement();
+            if (checkType(type) && checkFactory(method))
+            {
+                generateFactoryComponent(type, method, method.getAnnotation(Factory.class));
+            }
+        }
+
+        // 注册表不能在最后一轮生成，否则编译器不再处理生成的源文件并给出警告。
+        // 在没有发现新组件的一轮中为之前的组件生成注册表，其他处理器之后生成的组件写入下一个注册表
+        if (!found && !registrations.isEmpty()) writeRegistry();
+        return false;
+    }
+
+    private boolean checkType(TypeElement type)
+    {
+        if (!type.getModifiers().contains(Modifier.PUBLIC))
+        {
+            return error(type, "Component type must be public.");
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+        {
+            return error(type, "Nested component type must be static.");
+        }
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS)
+        {
+            return error(type, "Component type must be a top-level or static nested class.");
+        }
+        return true;
+    }
+
+    private boolean checkClass(TypeElement type)
+    {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT))
+        {
+            return error(type, "@ByxComponent can only be applied to concrete classes.");
+        }
+        return true;
+    }
+
+    private boolean checkFactory(ExecutableElement method)
+    {
+        if (!method.getModifiers().contains(Modifier.PUBLIC) || !method.getModifiers().contains(Modifier.STATIC))
+        {
+            return error(method, "@Factory can only be applied to public static methods.");
+        }
+        if (method.getReturnType().getKind() == TypeKind.VOID)
+        {
+            return error(method, "@Factory method must return a value.");
+        }
+        return true;
+    }
+
+    private boolean error(Element e, String message)
+    {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, e);
+        return false;
+    }
+
+    /**
+     * 选择构造函数：标注了Inject的public构造函数，或唯一的public构造函数
+     */
+    private ExecutableElement injectableConstructor(TypeElement type)
+    {
+        List<ExecutableElement> constructors = new ArrayList<>();
+        List<ExecutableElement> injectable = new ArrayList<>();
+        for (ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements()))
+        {
+            if (c.getModifiers().contains(Modifier.PUBLIC))
+            {
+                constructors.add(c);
+                if (c.getAnnotation(Inject.class) != null)
+                {
+                    injectable.add(c);
+                }
+            }
+        }
+
+        if (injectable.size() == 1)
+        {
+            return injectable.get(0);
+        }
+        if (injectable.isEmpty() && constructors.size() == 1)
+        {
+            return constructors.get(0);
+        }
+        error(type, "Cannot determine the constructor: annotate exactly one public constructor with @Inject or declare exactly one public constructor.");
+        return null;
+    }
+
+    /**
+     * 查找标注了Inject的字段对应的public setter
+     */
+    private ExecutableElement findSetter(TypeElement type, VariableElement field)
+    {
+        String name = field.getSimpleName().toString();
+        String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement m : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)))
+        {
+            if (m.getSimpleName().contentEquals(setterName) && m.getParameters().size() == 1
+                    && m.getModifiers().contains(Modifier.PUBLIC) && !m.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isAssignable(field.asType(), m.getParameters().get(0).asType()))
+            {
+                return m;
+            }
+        }
+        error(field, "Cannot find public setter \"" + setterName + "\" for injected field.");
+        return null;
+    }
+
+    private void generateClassComponent(TypeElement type, ByxComponent annotation)
+    {
+        ExecutableElement constructor = injectableConstructor(type);
+        if (constructor == null)
+        {
+            return;
+        }
+
+        List<String> dependencies = new ArrayList<>();
+        String args = arguments(constructor.getParameters(), dependencies);
+
+        List<String> setters = new ArrayList<>();
+        for (TypeMirror t = type.asType(); t.getKind() == TypeKind.DECLARED; )
+        {
+            TypeElement current = (TypeElement) ((DeclaredType) t).asElement();
+            if (current.getQualifiedName().contentEquals("java.lang.Object"))
+            {
+                break;
+            }
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements()))
+            {
+                if (field.getAnnotation(Inject.class) != null)
+                {
+                    ExecutableElement setter = findSetter(type, field);
+                    if (setter == null)
+                    {
+                        return;
+                    }
+                    int index = dependencies.size();
+                    dependencies.add(dependency(field, field.asType()));
+                    setters.add(String.format("obj.%s(%s);", setter.getSimpleName(), cast(field.asType(), "p" + index)));
+                }
+            }
+            t = current.getSuperclass();
+        }
+
+        String typeName = type.getQualifiedName().toString();
+        List<String> body = new ArrayList<>();
+        body.add(String.format("%s obj = new %s(%s);", typeName, typeName, args));
+        body.addAll(setters);
+        body.add("return obj;");
+
+        String id = annotation.id().isEmpty() ? defaultId(type) : annotation.id();
+        String className = generatedName(type, "ByxComponent");
+        writeComponent(type, className, typeName, dependencies, body);
+        register(type, id, className, annotation.singleton(), annotation.qualifiers(), annotation.primary(), annotation.priority());
+    }
+
+    private void generateFactoryComponent(TypeElement type, ExecutableElement method, Factory annotation)
+    {
+        List<String> dependencies = new ArrayList<>();
+        String args = arguments(method.getParameters(), dependencies);
+
+        List<String> body = new ArrayList<>();
+        body.add(String.format("return %s.%s(%s);", type.getQualifiedName(), method.getSimpleName(), args));
+
+        String id = annotation.id().isEmpty() ? method.getSimpleName().toString() : annotation.id();
+        String className = generatedName(type, method.getSimpleName() + "_ByxFactory");
+        writeComponent(type, className, erasure(method.getReturnType()), dependencies, body);
+        register(type, id, className, annotation.singleton(), annotation.qualifiers(), annotation.primary(), annotation.priority());
+    }
+
+    /**
+     * 为参数生成依赖组件，返回调用时的实参列表
+     */
+    private String arguments(List<? extends VariableElement> parameters, List<String> dependencies)
+    {
+        List<String> args = new ArrayList<>();
+        for (VariableElement p : parameters)
+        {
+            int index = dependencies.size();
+            dependencies.add(dependency(p, p.asType()));
+            args.add(cast(p.asType(), "p" + index));
+        }
+        return String.join(", ", args);
+    }
+
+    /**
+     * 依赖组件的创建表达式：标注了Id时按id引用，否则按类型和限定符获取
+     */
+    private String dependency(Element e, TypeMirror type)
+    {
+        Id id = e.getAnnotation(Id.class);
+        if (id != null)
+        {
+            return String.format("byx.container.component.Component.reference(container, %s)", literal(id.value()));
+        }
+        Qualifier qualifier = e.getAnnotation(Qualifier.class);
+        return String.format("byx.container.component.Component.type(container, %s.class, %s)",
+                erasure(type), qualifier == null ? "null" : literal(qualifier.value()));
+    }
+
+    /**
+     * 将依赖组件创建的对象转换为参数类型，基本类型先转换为包装类型再自动拆箱
+     */
+    private String cast(TypeMirror type, String component)
+    {
+        String target = type.getKind().isPrimitive()
+                ? processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) type).getQualifiedName().toString()
+                : erasure(type);
+        return String.format("(%s) %s.create()", target, component);
+    }
+
+    private String erasure(TypeMirror type)
+    {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String literal(String value)
+    {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private String packageName(TypeElement type)
+    {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    }
+
+    /**
+     * 生成的类名：外部类名和类名以下划线连接，再加上后缀
+     */
+    private String generatedName(TypeElement type, String suffix)
+    {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String pkg = packageName(type);
+        String simple = pkg.isEmpty() ? binaryName : binaryName.substring(pkg.length() + 1);
+        return simple.replace('$', '_') + "_" + suffix;
+    }
+
+    private static String defaultId(TypeElement type)
+    {
+        String name = type.getSimpleName().toString();
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void writeComponent(TypeElement origin, String className, String typeName,
+                                List<String> dependencies, List<String> body)
+    {
+        String pkg = packageName(origin);
+        StringBuilder sb = new StringBuilder();
+        if (!pkg.isEmpty())
+        {
+            sb.append("package ").append(pkg).append(";\n\n");
+        }
+        sb.append("@javax.annotation.processing.Generated(\"").append(WiringProcessor.class.getName()).append("\")\n");
+        sb.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        sb.append("public final class ").append(className).append(" implements byx.container.component.Component\n{\n");
+        for (int i = 0; i < dependencies.size(); ++i)
+        {
+            sb.append("    private final byx.container.component.Component p").append(i).append(";\n");
+        }
+        if (!dependencies.isEmpty())
+        {
+            sb.append('\n');
+        }
+        sb.append("    public ").append(className).append("(byx.container.Container container)\n    {\n");
+        for (int i = 0; i < dependencies.size(); ++i)
+        {
+            sb.append("        this.p").append(i).append(" = ").append(dependencies.get(i)).append(";\n");
+        }
+        sb.append("    }\n\n");
+        sb.append("    @Override\n    public Object create()\n    {\n");
+        for (String line : body)
+        {
+            sb.append("        ").append(line).append('\n');
+        }
+        sb.append("    }\n\n");
+        sb.append("    @Override\n    public Class<?> getType()\n    {\n");
+        sb.append("        return ").append(typeName).append(".class;\n");
+        sb.append("    }\n}\n");
+
+        writeSource(pkg.isEmpty() ? className : pkg + "." + className, sb.toString(), origin);
+    }
+
+    private void register(TypeElement type, String id, String className, boolean singleton,
+                          String[] qualifiers, boolean primary, int priority)
+    {
+        String pkg = packageName(type);
+        StringBuilder sb = new StringBuilder();
+        sb.append("container.addComponent(").append(literal(id)).append(", new ")
+                .append(pkg.isEmpty() ? className : pkg + "." + className).append("(container)");
+        if (singleton)
+        {
+            sb.append(".singleton(").append(literal(id)).append(")");
+        }
+        if (qualifiers.length > 0)
+        {
+            List<String> literals = new ArrayList<>();
+            for (String q : qualifiers)
+            {
+                literals.add(literal(q));
+            }
+            sb.append(".qualify(").append(String.join(", ", literals)).append(")");
+        }
+        if (primary)
+        {
+            sb.append(".primary()");
+        }
+        if (priority != 0)
+        {
+            sb.append(".priority(").append(priority).append(")");
+        }
+        sb.append(");");
+
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        registrations.computeIfAbsent(binaryName, k -> new ArrayList<>()).add(sb.toString());
+    }
+
+    private void writeRegistry()
+    {
+        if (registryName == null)
+        {
+            registryName = processingEnv.getOptions().get(REGISTRY_OPTION);
+            if (registryName == null)
+            {
+                String first = registrations.keySet().iterator().next();
+                int dot = first.lastIndexOf('.');
+                registryName = dot < 0 ? REGISTRY_SIMPLE_NAME : first.substring(0, dot) + "." + REGISTRY_SIMPLE_NAME;
+            }
+        }
+        String registry = registries.isEmpty() ? registryName : registryName + (registries.size() + 1);
+        int dot = registry.lastIndexOf('.');
+        String pkg = dot < 0 ? "" : registry.substring(0, dot);
+        String className = registry.substring(dot + 1);
+
+        StringBuilder sb = new StringBuilder();
+        if (!pkg.isEmpty())
+        {
+            sb.append("package ").append(pkg).append(";\n\n");
+        }
+        sb.append("@javax.annotation.processing.Generated(\"").append(WiringProcessor.class.getName()).append("\")\n");
+        sb.append("public final class ").append(className).append(" implements byx.container.annotation.ComponentRegistry\n{\n");
+        List<String> types = new ArrayList<>();
+        for (String type : registrations.keySet())
+        {
+            types.add(literal(type));
+        }
+        sb.append("    private static final java.util.Set<String> TYPES = java.util.Set.of(")
+                .append(String.join(", ", types)).append(");\n\n");
+        sb.append("    @Override\n    public java.util.Set<String> getTypes()\n    {\n        return TYPES;\n    }\n\n");
+        sb.append("    @Override\n    public void register(byx.container.Container container)\n    {\n");
+        for (List<String> statements : registrations.values())
+        {
+            for (String statement : statements)
+            {
+                sb.append("        ").append(statement).append('\n');
+            }
+        }
+        sb.append("    }\n}\n");
+
+        writeSource(registry, sb.toString());
+        registries.add(registry);
+        registrations.clear();
+    }
+
+    private void writeRegistryService()
+    {
+        try
+        {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", REGISTRY_SERVICE);
+            try (Writer writer = file.openWriter())
+            {
+                for (String registry : registries)
+                {
+                    writer.write(registry);
+                    writer.write('\n');
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write component registry service: " + e.getMessage());
+        }
+    }
+
+    private void writeSource(String name, String source, Element... origins)
+    {
+        try (Writer writer = processingEnv.getFiler().createSourceFile(name, origins).openWriter())
+        {
+            writer.write(source);
+        }
+        catch (IOException e)
+        {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write generated source " + name + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package byx.container.processor.test;
+
+import byx.container.ByxContainer;
+import byx.container.Container;
+import byx.container.annotation.*;
+import byx.container.processor.WiringProcessor;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WiringProcessorTest
+{
+    public interface Greeter
+    {
+        String greet();
+    }
+
+    @ByxComponent(qualifiers = "en")
+    public static class EnglishGreeter implements Greeter
+    {
+        @Override
+        public String greet()
+        {
+            return "hello";
+        }
+    }
+
+    @ByxComponent(id = "chinese", qualifiers = "zh", primary = true)
+    public static class ChineseGreeter implements Greeter
+    {
+        @Override
+        public String greet()
+        {
+            return "你好";
+        }
+    }
+
+    public static class Base
+    {
+        @Inject
+        @Qualifier("en")
+        private Greeter english;
+
+        public void setEnglish(Greeter english)
+        {
+            this.english = english;
+        }
+
+        public Greeter getEnglish()
+        {
+            return english;
+        }
+    }
+
+    @ByxComponent
+    public static class Service extends Base
+    {
+        private final Greeter greeter;
+        private final String name;
+        private final int times;
+
+        public Service()
+        {
+            this(null, null, 0);
+        }
+
+        @Inject
+        public Service(Greeter greeter, @Id("serviceName") String name, @Id("times") int times)
+        {
+            this.greeter = greeter;
+            this.name = name;
+            this.times = times;
+        }
+
+        public String run()
+        {
+            return name + ":" + greeter.greet().repeat(times) + "," + getEnglish().greet();
+        }
+    }
+
+    public static class Config
+    {
+        @Factory(id = "serviceName")
+        public static String name()
+        {
+            return "svc";
+        }
+
+        @Factory
+        public static Integer times()
+        {
+            return 2;
+        }
+
+        @Factory(singleton = false)
+        public static List<String> greetings(@Qualifier("en") Greeter en, @Qualifier("zh") Greeter zh)
+        {
+            return List.of(en.greet(), zh.greet());
+        }
+    }
+
+    @Test
+    public void testGenerated() throws Exception
+    {
+        Class<?> type = Class.forName("byx.container.processor.test.WiringProcessorTest_Service_ByxComponent");
+        assertTrue(byx.container.component.Component.class.isAssignableFrom(type));
+        Class.forName("byx.container.processor.test.WiringProcessorTest_Config_greetings_ByxFactory");
+
+        List<ComponentRegistry> registries = ServiceLoader.load(ComponentRegistry.class).stream()
+                .map(ServiceLoader.Provider::get).collect(Collectors.toList());
+        assertEquals(1, registries.size());
+        assertEquals("byx.container.processor.test.ByxComponentRegistry", registries.get(0).getClass().getName());
+        assertTrue(registries.get(0).getTypes().contains(Service.class.getName()));
+        assertTrue(registries.get(0).getTypes().contains(Config.class.getName()));
+    }
+
+    /**
+     * 在第二轮生成一个组件类，模拟其他注解处理器生成的组件
+     */
+    @SupportedAnnotationTypes("*")
+    public static class LateComponentProcessor extends AbstractProcessor
+    {
+        private int round;
+
+        @Override
+        public SourceVersion getSupportedSourceVersion()
+        {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+        {
+            if (++round == 2)
+            {
+                try (Writer writer = processingEnv.getFiler().createSourceFile("p.Late").openWriter())
+                {
+                    writer.write("package p;\n@byx.container.annotation.ByxComponent public class Late {}\n");
+                }
+                catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return false;
+        }
+    }
+
+    @Test
+    public void testLateRound() throws Exception
+    {
+        Path src = Files.createTempDirectory("byx-src");
+        Path out = Files.createTempDirectory("byx-out");
+        Path file = Files.createDirectories(src.resolve("p")).resolve("Early.java");
+        Files.writeString(file, "package p;\n@byx.container.annotation.ByxComponent public class Early {}\n");
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null))
+        {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-d", out.toString(), "-s", out.toString(), "-cp", System.getProperty("java.class.path")),
+                    null, fileManager.getJavaFileObjects(file));
+            task.setProcessors(List.of(new LateComponentProcessor(), new WiringProcessor()));
+            assertTrue(task.call());
+        }
+        // 注册表不在最后一轮生成，编译不产生警告
+        assertTrue(diagnostics.getDiagnostics().isEmpty(), diagnostics.getDiagnostics()::toString);
+
+        // 第二轮生成的组件写入下一个注册表
+        String registry = Files.readString(out.resolve("p/ByxComponentRegistry.java"));
+        assertTrue(registry.contains("\"p.Early\""), registry);
+        String lateRegistry = Files.readString(out.resolve("p/ByxComponentRegistry2.java"));
+        assertTrue(lateRegistry.contains("\"p.Late\""), lateRegistry);
+        assertEquals(List.of("p.ByxComponentRegistry", "p.ByxComponentRegistry2"),
+                Files.readAllLines(out.resolve("META-INF/services/byx.container.annotation.ComponentRegistry")));
+        assertTrue(Files.exists(out.resolve("p/ByxComponentRegistry.class")));
+        assertTrue(Files.exists(out.resolve("p/ByxComponentRegistry2.class")));
+        assertTrue(Files.exists(out.resolve("p/Late_ByxComponent.class")));
+    }
+
+    @Test
+    public void testScan() throws Exception
+    {
+        Path file = Files.createTempFile("byx", ".jfr");
+        try (Recording recording = new Recording())
+        {
+            recording.enable("byx.container.ReflectiveInvocation").withoutThreshold();
+            recording.start();
+
+            Container container = new ByxContainer();
+            ComponentScanner.scan(container);
+
+            Service service = container.getObject("service");
+            assertEquals("svc:你好你好,hello", service.run());
+            assertSame(service, container.getObject(Service.class));
+            assertEquals("hello", container.getObject(Greeter.class, "en").greet());
+            assertEquals("你好", container.getObject(Greeter.class).greet());
+            assertEquals(List.of("hello", "你好"), container.getObject("greetings"));
+            assertNotSame(container.getObject("greetings"), container.getObject("greetings"));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("byx.container.ReflectiveInvocation"))
+                .collect(Collectors.toList());
+        Files.delete(file);
+        assertTrue(events.isEmpty(), events::toString);
+    }
+}